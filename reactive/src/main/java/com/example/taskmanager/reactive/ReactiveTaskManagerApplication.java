@@ -0,0 +1,13 @@
+package com.example.taskmanager.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+@SpringBootApplication
+@EnableR2dbcAuditing
+public class ReactiveTaskManagerApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(ReactiveTaskManagerApplication.class, args);
+  }
+}
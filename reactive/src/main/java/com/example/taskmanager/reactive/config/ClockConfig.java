@@ -0,0 +1,21 @@
+package com.example.taskmanager.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * The clock "today" is read from for overdue and due-today lookups; same
+ * {@code app.time-zone} setting as the servlet application.
+ */
+@Configuration
+public class ClockConfig {
+
+  @Bean
+  public Clock clock(@Value("${app.time-zone:}") String timeZone) {
+    return Clock.system(timeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(timeZone));
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.reactive.exception.ErrorResponse;
+import com.example.taskmanager.reactive.exception.InvalidRequestException;
+import com.example.taskmanager.reactive.exception.PreconditionFailedException;
+import com.example.taskmanager.reactive.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Same error bodies and status codes as the servlet application's handler, with the
+ * request path taken from the exchange.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(
+            ResourceNotFoundException ex,
+            ServerWebExchange exchange) {
+        log.error("Resource not found: {}", ex.getMessage());
+        return respond(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            InvalidRequestException ex,
+            ServerWebExchange exchange) {
+        log.error("Invalid request: {}", ex.getMessage());
+
+        boolean hasFieldErrors = !ex.getValidationErrors().isEmpty();
+        ResponseEntity<ErrorResponse> response = respond(HttpStatus.BAD_REQUEST,
+                hasFieldErrors ? "Validation Failed" : "Bad Request", ex.getMessage(), exchange);
+        if (hasFieldErrors) {
+            response.getBody().setValidationErrors(ex.getValidationErrors());
+        }
+        return response;
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex,
+            ServerWebExchange exchange) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return respond(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), exchange);
+    }
+
+    /**
+     * Two writers raced on the same task and this one lost at save time.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            ServerWebExchange exchange) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return respond(HttpStatus.CONFLICT, "Conflict",
+                "The task was modified concurrently. Reload it and retry.", exchange);
+    }
+
+    /**
+     * Bean Validation failures on a request body; WebFlux's counterpart of
+     * {@code MethodArgumentNotValidException}.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(
+            WebExchangeBindException ex,
+            ServerWebExchange exchange) {
+        log.error("Validation error: {}", ex.getMessage());
+
+        Map<String, String> validationErrors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(err ->
+                validationErrors.put(err.getField(), err.getDefaultMessage())
+        );
+
+        ResponseEntity<ErrorResponse> response = respond(HttpStatus.BAD_REQUEST, "Validation Failed",
+                "Input validation failed. Check 'validationErrors' for details.", exchange);
+        response.getBody().setValidationErrors(validationErrors);
+        return response;
+    }
+
+    /**
+     * Unreadable bodies and unconvertible parameters, such as an unknown status.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInput(
+            ServerWebInputException ex,
+            ServerWebExchange exchange) {
+        log.error("Bad request: {}", ex.getMessage());
+        return respond(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), exchange);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerWebExchange exchange) {
+        log.error("Unexpected error occurred", ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", exchange);
+    }
+
+    private static ResponseEntity<ErrorResponse> respond(HttpStatus status, String error, String message,
+                                                         ServerWebExchange exchange) {
+        ErrorResponse body = new ErrorResponse(status.value(), error, message,
+                exchange.getRequest().getPath().value());
+        return new ResponseEntity<>(body, status);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.reactive.dto.TaskStatusSummary;
+import com.example.taskmanager.reactive.dto.TaskSummary;
+import com.example.taskmanager.reactive.model.Task;
+import com.example.taskmanager.reactive.model.TaskStatus;
+import com.example.taskmanager.reactive.service.TaskService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@code /api/tasks} contract of the servlet application, served without blocking.
+ * <p>
+ * Listings return a {@link Flux} straight from the repository. As {@code application/json}
+ * WebFlux writes it as one array element by element; as {@code application/x-ndjson} each task
+ * is flushed as its own line. Either way rows are requested from the database only as fast as
+ * the client reads the response, so a slow reader holds back the query instead of filling memory.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+public class TaskController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+
+    private final TaskService taskService;
+
+    public TaskController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * Lists tasks without their description; fetch a single task for the full record.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskSummary> getAllTasks(@RequestParam(required = false) TaskStatus status) {
+        log.info("GET /api/tasks - status filter: {}", status);
+        return status != null ? taskService.getTasksByStatus(status) : taskService.getAllTasks();
+    }
+
+    /**
+     * Returns the task with a strong ETag. When {@code If-None-Match} still matches,
+     * answers 304 after reading only the version column.
+     */
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Task>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("GET /api/tasks/{}", id);
+        if (ifNoneMatch == null) {
+            return taskService.getTaskById(id).map(task -> withETag(ResponseEntity.ok(), task));
+        }
+        return taskService.getTaskVersion(id).flatMap(version -> TaskETags.matchesIfNoneMatch(ifNoneMatch, version)
+                ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(TaskETags.of(version)).<Task>build())
+                : taskService.getTaskById(id).map(task -> withETag(ResponseEntity.ok(), task)));
+    }
+
+    /**
+     * Task totals per status, from one grouped count.
+     */
+    @GetMapping("/summary")
+    public Mono<TaskStatusSummary> getStatusSummary() {
+        log.debug("GET /api/tasks/summary");
+        return taskService.getStatusSummary();
+    }
+
+    @GetMapping(value = "/overdue", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskSummary> getOverdueTasks() {
+        log.info("GET /api/tasks/overdue");
+        return taskService.getOverdueTasks();
+    }
+
+    @GetMapping(value = "/due-today", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskSummary> getTasksDueToday() {
+        log.info("GET /api/tasks/due-today");
+        return taskService.getTasksDueToday();
+    }
+
+    /**
+     * Streams every task as newline-delimited JSON.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<Task>> exportTasks() {
+        log.info("GET /api/tasks/export");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(taskService.exportTasks());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Task> create(@Valid @RequestBody Task task) {
+        log.info("POST /api/tasks - title: {}", task.getTitle());
+        return taskService.createTask(task);
+    }
+
+    /**
+     * Full update. With {@code If-Match} the task must still carry that ETag, else 412.
+     */
+    @PutMapping("{id}")
+    public Mono<ResponseEntity<Task>> update(
+            @PathVariable Long id,
+            @Valid @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PUT /api/tasks/{}", id);
+        return taskService.updateTask(id, task, TaskETags.expectedVersion(ifMatch))
+                .map(updated -> withETag(ResponseEntity.ok(), updated));
+    }
+
+    @PatchMapping("/{id}/status")
+    public Mono<Task> updateTaskStatus(
+            @PathVariable Long id,
+            @RequestParam TaskStatus status) {
+        log.info("PATCH /api/tasks/{}/status - new status: {}", id, status);
+        return taskService.updateTaskStatus(id, status);
+    }
+
+    @DeleteMapping("{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("DELETE /api/tasks/{}", id);
+        return taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch));
+    }
+
+    private static ResponseEntity<Task> withETag(ResponseEntity.BodyBuilder response, Task task) {
+        if (task.getVersion() != null) {
+            response.eTag(TaskETags.of(task.getVersion()));
+        }
+        return response.body(task);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.reactive.exception.InvalidRequestException;
+
+/**
+ * Strong entity tags for task resources. The tag is the task's optimistic lock
+ * version in quotes, so it changes exactly when the row does.
+ */
+final class TaskETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Weak comparison against an {@code If-None-Match} header, as RFC 9110 requires for GET.
+     */
+    static boolean matchesIfNoneMatch(String header, long version) {
+        if (header == null) {
+            return false;
+        }
+        String current = of(version);
+        for (String tag : header.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the version an {@code If-Match} header requires.
+     *
+     * @return the expected version, or null when the header is absent or {@code *}
+     * (any existing task matches)
+     * @throws InvalidRequestException when the header is not a single quoted version;
+     * weak tags never match under If-Match and are rejected as well
+     */
+    static Long expectedVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // fall through to the error below
+            }
+        }
+        throw new InvalidRequestException("If-Match must be * or a single strong entity tag such as \"3\"");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.reactive.dto;
+
+import com.example.taskmanager.reactive.model.TaskStatus;
+
+/**
+ * One row of a GROUP BY status count.
+ */
+public record StatusCount(TaskStatus status, Long count) {
+}
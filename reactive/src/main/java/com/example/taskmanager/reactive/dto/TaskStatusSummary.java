@@ -0,0 +1,15 @@
+package com.example.taskmanager.reactive.dto;
+
+import com.example.taskmanager.reactive.model.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Number of tasks per status, with every status present (zero when empty).
+ */
+public record TaskStatusSummary(long total, Map<TaskStatus, Long> counts) {
+
+    public static TaskStatusSummary of(Map<TaskStatus, Long> counts) {
+        return new TaskStatusSummary(counts.values().stream().mapToLong(Long::longValue).sum(), counts);
+    }
+}
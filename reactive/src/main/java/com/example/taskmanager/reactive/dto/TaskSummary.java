@@ -0,0 +1,19 @@
+package com.example.taskmanager.reactive.dto;
+
+import com.example.taskmanager.reactive.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task for list views; leaves out the description.
+ * Serializes like the servlet application's list items.
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        TaskStatus status,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanager.reactive.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a request is syntactically valid but its parameters
+ * cannot be honoured (malformed cursor, out-of-range limit, ...).
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    private final Map<String, String> validationErrors;
+
+    public InvalidRequestException(String message) {
+        super(message);
+        this.validationErrors = Map.of();
+    }
+
+    public InvalidRequestException(String message, Map<String, String> validationErrors) {
+        super(message);
+        this.validationErrors = validationErrors;
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+        this.validationErrors = Map.of();
+    }
+
+    /**
+     * Field-level errors keyed by property path; empty when the request failed as a whole.
+     */
+    public Map<String, String> getValidationErrors() {
+        return validationErrors;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanager.reactive.exception;
+
+/**
+ * Exception thrown when a requested resource is not found.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+    
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+    
+    public ResourceNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
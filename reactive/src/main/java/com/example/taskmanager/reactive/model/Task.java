@@ -0,0 +1,106 @@
+package com.example.taskmanager.reactive.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A task row, mapped by Spring Data R2DBC. Same JSON shape and constraints as the servlet
+ * application's entity; timestamps are filled in by R2DBC auditing.
+ */
+@Table("tasks")
+public class Task {
+
+    @Id
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 100, message = "Title must be at most 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must be at most 500 characters")
+    private String description;
+
+    private TaskStatus status = TaskStatus.TODO;
+
+    private LocalDate dueDate;
+
+    @CreatedDate
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock counter, bumped on every change. Backs the task's ETag.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public Task() {}
+
+    public Task(String title, String description, TaskStatus status, LocalDate dueDate) {
+        this.title = title;
+        this.description = description;
+        this.status = status != null ? status : TaskStatus.TODO;
+        this.dueDate = dueDate;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public LocalDate getDueDate() { return dueDate; }
+    public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    /**
+     * Overdue as of the system clock's date. Server code should pass the business day
+     * from the application {@link java.time.Clock} to {@link #isOverdue(LocalDate)} instead.
+     */
+    public boolean isOverdue() {
+        return isOverdue(LocalDate.now());
+    }
+
+    public boolean isOverdue(LocalDate today) {
+        return dueDate != null && dueDate.isBefore(today);
+    }
+
+    /**
+     * Due today by the system clock; see {@link #isOverdue()}.
+     */
+    public boolean isDueToday() {
+        return isDueToday(LocalDate.now());
+    }
+
+    public boolean isDueToday(LocalDate today) {
+        return dueDate != null && dueDate.isEqual(today);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanager.reactive.model;
+
+public enum TaskStatus {
+    TODO,
+    IN_PROGRESS,
+    DONE
+}
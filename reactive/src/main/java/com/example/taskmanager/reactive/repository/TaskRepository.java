@@ -0,0 +1,49 @@
+package com.example.taskmanager.reactive.repository;
+
+import com.example.taskmanager.reactive.dto.StatusCount;
+import com.example.taskmanager.reactive.dto.TaskSummary;
+import com.example.taskmanager.reactive.model.Task;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Reactive access to the tasks table. List queries return a {@link Flux} that emits rows as
+ * the driver reads them, so results are never collected into a list on the server.
+ */
+public interface TaskRepository extends ReactiveCrudRepository<Task, Long> {
+
+    String SELECT_SUMMARY = "SELECT id, title, status, due_date, created_at, updated_at FROM tasks";
+
+    @Query(SELECT_SUMMARY + " ORDER BY id")
+    Flux<TaskSummary> findAllSummaries();
+
+    /**
+     * Tasks with the status of that name; a range scan on {@code idx_status_id}.
+     */
+    @Query(SELECT_SUMMARY + " WHERE status = :status ORDER BY id")
+    Flux<TaskSummary> findSummariesByStatus(String status);
+
+    /**
+     * Tasks in any of {@code statuses} (by name) due before {@code date}, in due date order:
+     * one range scan per status on {@code idx_status_due_date}.
+     */
+    @Query(SELECT_SUMMARY + " WHERE status IN (:statuses) AND due_date < :date ORDER BY due_date, id")
+    Flux<TaskSummary> findSummariesDueBefore(Collection<String> statuses, LocalDate date);
+
+    @Query(SELECT_SUMMARY + " WHERE status IN (:statuses) AND due_date = :date ORDER BY id")
+    Flux<TaskSummary> findSummariesDueOn(Collection<String> statuses, LocalDate date);
+
+    @Query("SELECT status, COUNT(*) AS count FROM tasks GROUP BY status")
+    Flux<StatusCount> countGroupedByStatus();
+
+    @Query("SELECT * FROM tasks ORDER BY id")
+    Flux<Task> findAllOrderedById();
+
+    @Query("SELECT version FROM tasks WHERE id = :id")
+    Mono<Long> findVersionById(Long id);
+}
@@ -0,0 +1,175 @@
+package com.example.taskmanager.reactive.service;
+
+import com.example.taskmanager.reactive.dto.TaskStatusSummary;
+import com.example.taskmanager.reactive.dto.TaskSummary;
+import com.example.taskmanager.reactive.exception.PreconditionFailedException;
+import com.example.taskmanager.reactive.exception.ResourceNotFoundException;
+import com.example.taskmanager.reactive.model.Task;
+import com.example.taskmanager.reactive.model.TaskStatus;
+import com.example.taskmanager.reactive.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of the servlet application's task service. Nothing here waits on
+ * the database: every method returns a publisher that runs its statements when subscribed.
+ */
+@Service
+@Transactional
+public class TaskService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
+    /** Names of the statuses that still count as open, bound as an IN list. */
+    static final List<String> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(TaskStatus.DONE)).stream()
+            .map(TaskStatus::name).toList();
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public TaskService(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<TaskSummary> getAllTasks() {
+        log.debug("Fetching all tasks");
+        return taskRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<TaskSummary> getTasksByStatus(TaskStatus status) {
+        log.debug("Fetching tasks with status: {}", status);
+        return taskRepository.findSummariesByStatus(status.name());
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Task> getTaskById(Long id) {
+        log.debug("Fetching task with id: {}", id);
+        return taskRepository.findById(id).switchIfEmpty(notFound(id));
+    }
+
+    /**
+     * The task's current version, read without loading the row; backs conditional GETs.
+     */
+    @Transactional(readOnly = true)
+    public Mono<Long> getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id).switchIfEmpty(notFound(id));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<TaskStatusSummary> getStatusSummary() {
+        return taskRepository.countGroupedByStatus()
+                .collect(TaskService::zeroCounts, (counts, row) -> counts.put(row.status(), row.count()))
+                .map(TaskStatusSummary::of);
+    }
+
+    /**
+     * Open tasks whose due date has passed, in due date order.
+     */
+    @Transactional(readOnly = true)
+    public Flux<TaskSummary> getOverdueTasks() {
+        LocalDate today = LocalDate.now(clock);
+        log.debug("Fetching tasks overdue as of {}", today);
+        return taskRepository.findSummariesDueBefore(OPEN_STATUSES, today);
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<TaskSummary> getTasksDueToday() {
+        LocalDate today = LocalDate.now(clock);
+        log.debug("Fetching tasks due on {}", today);
+        return taskRepository.findSummariesDueOn(OPEN_STATUSES, today);
+    }
+
+    /**
+     * Every task with its description, in id order, for the export stream.
+     */
+    @Transactional(readOnly = true)
+    public Flux<Task> exportTasks() {
+        return taskRepository.findAllOrderedById();
+    }
+
+    public Mono<Task> createTask(Task task) {
+        log.info("Creating new task: {}", task.getTitle());
+        task.setId(null);
+        task.setVersion(null);
+        if (task.getStatus() == null) {
+            task.setStatus(TaskStatus.TODO);
+        }
+        return taskRepository.save(task);
+    }
+
+    /**
+     * Full update, applying only the fields set in {@code details} like the servlet API, so
+     * a null field keeps its current value. With an {@code expectedVersion} the task must
+     * still be at that version; the save itself also fails if another writer got in between.
+     */
+    public Mono<Task> updateTask(Long id, Task details, Long expectedVersion) {
+        log.info("Updating task with id: {}", id);
+        return getTaskById(id)
+                .flatMap(task -> checkVersion(task, expectedVersion))
+                .flatMap(task -> {
+                    // Update only provided fields
+                    if (details.getTitle() != null) {
+                        task.setTitle(details.getTitle());
+                    }
+                    if (details.getDescription() != null) {
+                        task.setDescription(details.getDescription());
+                    }
+                    if (details.getStatus() != null) {
+                        task.setStatus(details.getStatus());
+                    }
+                    if (details.getDueDate() != null) {
+                        task.setDueDate(details.getDueDate());
+                    }
+                    return taskRepository.save(task);
+                });
+    }
+
+    public Mono<Task> updateTaskStatus(Long id, TaskStatus status) {
+        log.info("Updating status of task {} to {}", id, status);
+        return getTaskById(id).flatMap(task -> {
+            task.setStatus(status);
+            return taskRepository.save(task);
+        });
+    }
+
+    public Mono<Void> deleteTask(Long id, Long expectedVersion) {
+        log.info("Deleting task with id: {}", id);
+        return getTaskById(id)
+                .flatMap(task -> checkVersion(task, expectedVersion))
+                .flatMap(taskRepository::delete);
+    }
+
+    private static Mono<Task> checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            return Mono.error(new PreconditionFailedException(
+                    "Task " + task.getId() + " has changed; current version is " + task.getVersion()));
+        }
+        return Mono.just(task);
+    }
+
+    private static <T> Mono<T> notFound(Long id) {
+        return Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    private static Map<TaskStatus, Long> zeroCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    due_date DATE,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    version BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_status_id ON tasks (status, id);
+CREATE INDEX IF NOT EXISTS idx_due_date_id ON tasks (due_date, id);
+CREATE INDEX IF NOT EXISTS idx_status_due_date ON tasks (status, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_updated_at_id ON tasks (updated_at, id);
@@ -0,0 +1,177 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.reactive.dto.TaskSummary;
+import com.example.taskmanager.reactive.model.Task;
+import com.example.taskmanager.reactive.model.TaskStatus;
+import com.example.taskmanager.reactive.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll().block();
+    }
+
+    @Test
+    void getAllTasks_shouldListSummariesFilteredByStatus() {
+        save("Open", TaskStatus.TODO, null);
+        save("Finished", TaskStatus.DONE, null);
+
+        client.get().uri("/api/tasks?status=DONE").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Finished")
+                .jsonPath("$[0].description").doesNotExist();
+    }
+
+    @Test
+    void getAllTasks_asNdjson_shouldStreamOneTaskPerLine() {
+        save("A", TaskStatus.TODO, null);
+        save("B", TaskStatus.TODO, null);
+
+        Flux<TaskSummary> stream = client.get().uri("/api/tasks").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskSummary.class).getResponseBody();
+
+        StepVerifier.create(stream.map(TaskSummary::title))
+                .expectNext("A", "B")
+                .verifyComplete();
+    }
+
+    @Test
+    void getOverdueTasks_shouldSkipDoneAndFutureTasks() {
+        save("Late", TaskStatus.IN_PROGRESS, LocalDate.now().minusDays(2));
+        save("Late but done", TaskStatus.DONE, LocalDate.now().minusDays(2));
+        save("Later", TaskStatus.TODO, LocalDate.now().plusDays(2));
+
+        client.get().uri("/api/tasks/overdue").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Late");
+    }
+
+    @Test
+    void getStatusSummary_shouldCountEveryStatus() {
+        save("A", TaskStatus.TODO, null);
+        save("B", TaskStatus.TODO, null);
+
+        client.get().uri("/api/tasks/summary").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.counts.TODO").isEqualTo(2)
+                .jsonPath("$.counts.DONE").isEqualTo(0);
+    }
+
+    @Test
+    void create_thenGetById_shouldRoundTripWithETag() {
+        Map<?, ?> created = client.post().uri("/api/tasks")
+                .bodyValue(Map.of("title", "New", "description", "Details"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class).returnResult().getResponseBody();
+        assertNotNull(created);
+        assertEquals("TODO", created.get("status"));
+        assertNotNull(created.get("createdAt"));
+        Object id = created.get("id");
+
+        String etag = client.get().uri("/api/tasks/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.description").isEqualTo("Details")
+                .returnResult().getResponseHeaders().getETag();
+        assertEquals("\"" + created.get("version") + "\"", etag);
+
+        client.get().uri("/api/tasks/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void create_withBlankTitle_shouldReturnValidationErrors() {
+        client.post().uri("/api/tasks")
+                .bodyValue(Map.of("title", ""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.path").isEqualTo("/api/tasks")
+                .jsonPath("$.validationErrors.title").isEqualTo("Title is required");
+    }
+
+    @Test
+    void update_withPartialBody_shouldKeepFieldsLeftOut() {
+        LocalDate dueDate = LocalDate.now().plusDays(3);
+        Task task = taskRepository.save(new Task("Original", "Keep me", TaskStatus.TODO, dueDate)).block();
+
+        client.put().uri("/api/tasks/{id}", task.getId())
+                .bodyValue(Map.of("title", "Renamed"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Renamed")
+                .jsonPath("$.description").isEqualTo("Keep me")
+                .jsonPath("$.dueDate").isEqualTo(dueDate.toString());
+
+        Task stored = taskRepository.findById(task.getId()).block();
+        assertEquals("Keep me", stored.getDescription());
+        assertEquals("Renamed", stored.getTitle());
+        assertEquals(dueDate, stored.getDueDate());
+    }
+
+    @Test
+    void update_withStaleIfMatch_shouldReturnPreconditionFailed() {
+        Task task = save("Versioned", TaskStatus.TODO, null);
+        client.put().uri("/api/tasks/{id}", task.getId())
+                .bodyValue(Map.of("title", "First write"))
+                .exchange()
+                .expectStatus().isOk();
+
+        client.put().uri("/api/tasks/{id}", task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + task.getVersion() + "\"")
+                .bodyValue(Map.of("title", "Stale write"))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.error").isEqualTo("Precondition Failed");
+    }
+
+    @Test
+    void delete_shouldRemoveTaskAndThen404() {
+        Task task = save("Doomed", TaskStatus.TODO, null);
+
+        client.delete().uri("/api/tasks/{id}", task.getId()).exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/tasks/{id}", task.getId()).exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task not found with id: " + task.getId());
+        assertEquals(List.of(), taskRepository.findAll().collectList().block());
+    }
+
+    private Task save(String title, TaskStatus status, LocalDate dueDate) {
+        return taskRepository.save(new Task(title, null, status, dueDate)).block();
+    }
+}
@@ -1,4 +1,4 @@
-import { Task, ApiError } from "./types";
+import { Task, ApiError, BoardGroupBy, CursorPage, TaskBoard, TaskMergePatch, TaskSortOrder, TaskStreamHandlers } from "./types";
 
 const API_BASE = import.meta.env.VITE_API_BASE ?? "http://localhost:8080/api/tasks";
 
@@ -42,6 +42,46 @@ class ApiClient {
     return this.handleResponse<Task[]>(res);
   }
 
+  async listTaskPage(
+    limit: number,
+    options: { status?: string; sort?: TaskSortOrder; cursor?: string } = {}
+  ): Promise<CursorPage<Task>> {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (options.status) params.set("status", options.status);
+    if (options.sort) params.set("sort", options.sort);
+    if (options.cursor) params.set("cursor", options.cursor);
+    const res = await fetch(`${this.baseUrl}?${params}`);
+    return this.handleResponse<CursorPage<Task>>(res);
+  }
+
+  /** Every group's count and first items in one request; q filters by title. */
+  async getBoard(groupBy: BoardGroupBy, limitPerGroup: number, q?: string): Promise<TaskBoard<Task>> {
+    const params = new URLSearchParams({ groupBy, limitPerGroup: String(limitPerGroup) });
+    if (q) params.set("q", q);
+    const res = await fetch(`${this.baseUrl}/board?${params}`);
+    return this.handleResponse<TaskBoard<Task>>(res);
+  }
+
+  /** The next items of one board group, from the group's nextCursor. */
+  async getBoardGroup(
+    groupBy: BoardGroupBy,
+    key: string,
+    limit: number,
+    options: { cursor?: string; q?: string } = {}
+  ): Promise<CursorPage<Task>> {
+    const params = new URLSearchParams({ groupBy, limit: String(limit) });
+    if (options.cursor) params.set("cursor", options.cursor);
+    if (options.q) params.set("q", options.q);
+    const res = await fetch(`${this.baseUrl}/board/${key}?${params}`);
+    return this.handleResponse<CursorPage<Task>>(res);
+  }
+
+  async searchTasks(query: string, limit = 20): Promise<Task[]> {
+    const params = new URLSearchParams({ q: query, limit: String(limit) });
+    const res = await fetch(`${this.baseUrl}/search?${params}`);
+    return this.handleResponse<Task[]>(res);
+  }
+
   async getTask(id: number): Promise<Task> {
     const res = await fetch(`${this.baseUrl}/${id}`);
     return this.handleResponse<Task>(res);
@@ -56,15 +96,27 @@ class ApiClient {
     return this.handleResponse<Task>(res);
   }
 
+  /** Sends If-Match when the task carries a version, so a concurrent edit fails with 412. */
   async updateTask(id: number, task: Partial<Task>): Promise<Task> {
+    const headers: Record<string, string> = { "Content-Type": "application/json" };
+    if (task.version != null) headers["If-Match"] = `"${task.version}"`;
     const res = await fetch(`${this.baseUrl}/${id}`, {
       method: "PUT",
-      headers: { "Content-Type": "application/json" },
+      headers,
       body: JSON.stringify(task),
     });
     return this.handleResponse<Task>(res);
   }
 
+  async patchTask(id: number, patch: TaskMergePatch): Promise<void> {
+    const res = await fetch(`${this.baseUrl}/${id}`, {
+      method: "PATCH",
+      headers: { "Content-Type": "application/merge-patch+json" },
+      body: JSON.stringify(patch),
+    });
+    return this.handleResponse<void>(res);
+  }
+
   async updateTaskStatus(id: number, status: string): Promise<Task> {
     const res = await fetch(`${this.baseUrl}/${id}/status?status=${status}`, {
       method: "PATCH",
@@ -78,10 +130,34 @@ class ApiClient {
     return this.handleResponse<void>(res);
   }
 
+  async deleteTasks(ids: number[]): Promise<{ affected: number }> {
+    const res = await fetch(`${this.baseUrl}?ids=${ids.join(",")}`, { method: "DELETE" });
+    return this.handleResponse<{ affected: number }>(res);
+  }
+
+  /**
+   * Opens the change stream. The browser reconnects on its own and resumes with Last-Event-ID.
+   * Returns a function that closes the stream.
+   */
+  subscribeTasks(handlers: TaskStreamHandlers): () => void {
+    const source = new EventSource(`${this.baseUrl}/stream`);
+    const upsert = (e: Event) => handlers.onUpsert(JSON.parse((e as MessageEvent).data));
+    source.addEventListener("created", upsert);
+    source.addEventListener("updated", upsert);
+    source.addEventListener("deleted", (e) => handlers.onDelete(JSON.parse((e as MessageEvent).data).id));
+    source.addEventListener("reset", () => handlers.onReset());
+    return () => source.close();
+  }
+
   async getOverdueTasks(): Promise<Task[]> {
     const res = await fetch(`${this.baseUrl}/overdue`);
     return this.handleResponse<Task[]>(res);
   }
+
+  async getTasksDueToday(): Promise<Task[]> {
+    const res = await fetch(`${this.baseUrl}/due-today`);
+    return this.handleResponse<Task[]>(res);
+  }
 }
 
 export class ApiException extends Error {
@@ -106,4 +182,15 @@ export const listTasks = (status?: string) => api.listTasks(status);
 export const getTask = (id: number) => api.getTask(id);
 export const createTask = (task: Partial<Task>) => api.createTask(task);
 export const updateTask = (id: number, task: Partial<Task>) => api.updateTask(id, task);
-export const deleteTask = (id: number) => api.deleteTask(id);
\ No newline at end of file
+export const patchTask = (id: number, patch: TaskMergePatch) => api.patchTask(id, patch);
+export const deleteTask = (id: number) => api.deleteTask(id);
+export const deleteTasks = (ids: number[]) => api.deleteTasks(ids);
+export const subscribeTasks = (handlers: TaskStreamHandlers) => api.subscribeTasks(handlers);
+export const getBoard = (groupBy: BoardGroupBy, limitPerGroup: number, q?: string) =>
+  api.getBoard(groupBy, limitPerGroup, q);
+export const getBoardGroup = (
+  groupBy: BoardGroupBy,
+  key: string,
+  limit: number,
+  options?: { cursor?: string; q?: string }
+) => api.getBoardGroup(groupBy, key, limit, options);
\ No newline at end of file
@@ -32,6 +32,7 @@ export default function TaskForm({ initial, onSave, onCancel }: Props) {
     try {
       await onSave({
         id: initial?.id,
+        version: initial?.version,
         title: title.trim(),
         description: description.trim() || undefined,
         dueDate: dueDate || undefined,
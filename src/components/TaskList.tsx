@@ -1,15 +1,16 @@
-import React, { useEffect, useMemo, useState } from "react";
-import { Task } from "../types";
+import React, { useEffect, useRef, useState } from "react";
+import { BoardGroupBy, Task, TaskBoard, TaskBoardGroup, TASK_STATUS_LABELS } from "../types";
 import * as api from "../api";
 import TaskForm from "./TaskForm";
 
-type GroupBy = "STATUS" | "DUEDATE";
-type SortDir = "ASC" | "DESC";
+// Items fetched per group with the board, and per "Show more"
+const PAGE_SIZE = 20;
 
-const STATUS_ORDER: Record<string, number> = {
-  TODO: 0,
-  IN_PROGRESS: 1,
-  DONE: 2,
+const DUE_LABELS: Record<string, string> = {
+  OVERDUE: "Overdue",
+  TODAY: "Today",
+  UPCOMING: "Upcoming",
+  NONE: "No due date",
 };
 
 function startOfDay(ts: number) {
@@ -19,33 +20,94 @@ function startOfDay(ts: number) {
 }
 
 function dueCategory(task: Task) {
-  if (!task.dueDate) return "No due date";
+  if (!task.dueDate) return "NONE";
   const today = startOfDay(Date.now());
   const dt = startOfDay(new Date(task.dueDate).getTime());
-  if (dt < today) return "Overdue";
-  if (dt === today) return "Today";
-  return "Upcoming";
+  if (dt < today) return "OVERDUE";
+  if (dt === today) return "TODAY";
+  return "UPCOMING";
+}
+
+function groupKey(groupBy: BoardGroupBy, task: Task) {
+  return groupBy === "STATUS" ? task.status : dueCategory(task);
+}
+
+function groupLabel(groupBy: BoardGroupBy, key: string) {
+  return groupBy === "STATUS" ? TASK_STATUS_LABELS[key as Task["status"]] ?? key : DUE_LABELS[key] ?? key;
+}
+
+// The server's order within a group: due date, undated last, then id
+function compareTasks(a: Task, b: Task) {
+  if (a.dueDate !== b.dueDate) {
+    if (!a.dueDate) return 1;
+    if (!b.dueDate) return -1;
+    return a.dueDate < b.dueDate ? -1 : 1;
+  }
+  return (a.id ?? 0) - (b.id ?? 0);
+}
+
+function removeTask(board: TaskBoard<Task>, id: number): TaskBoard<Task> {
+  return {
+    ...board,
+    groups: board.groups.map((g) =>
+      g.items.some((t) => t.id === id)
+        ? { ...g, count: g.count - 1, items: g.items.filter((t) => t.id !== id) }
+        : g
+    ),
+  };
+}
+
+function isListed(board: TaskBoard<Task>, id?: number) {
+  return board.groups.some((g) => g.items.some((t) => t.id === id));
+}
+
+function isComplete(board: TaskBoard<Task>) {
+  return board.groups.every((g) => !g.nextCursor);
+}
+
+/**
+ * Moves a listed task, or one the fully loaded board lacks, into its group. A task sorting
+ * after the loaded part of a group only raises the count; it is listed once the group is paged that far.
+ */
+function placeTask(board: TaskBoard<Task>, task: Task, query: string): TaskBoard<Task> {
+  if (task.id == null) return board;
+  const next = removeTask(board, task.id);
+  const q = query.trim().toLowerCase();
+  if (q && !task.title.toLowerCase().includes(q)) return next;
+  const key = groupKey(board.groupBy, task);
+  return {
+    ...next,
+    groups: next.groups.map((g) => {
+      if (g.key !== key) return g;
+      const last = g.items[g.items.length - 1];
+      const fits = !g.nextCursor || (last != null && compareTasks(task, last) < 0);
+      const items = fits ? [...g.items, task].sort(compareTasks) : g.items;
+      return { ...g, count: g.count + 1, items };
+    }),
+  };
 }
 
 export default function TaskList() {
-  const [tasks, setTasks] = useState<Task[]>([]);
+  const [board, setBoard] = useState<TaskBoard<Task> | null>(null);
   const [loading, setLoading] = useState(false);
   const [editing, setEditing] = useState<Task | null>(null);
   const [error, setError] = useState<string | null>(null);
-  const [showCreate, setShowCreate] = useState(false);          
+  const [showCreate, setShowCreate] = useState(false);
 
-  // grouping + sort + search
-  const [groupBy, setGroupBy] = useState<GroupBy>("STATUS");
-  const [sortDir, setSortDir] = useState<SortDir>("ASC");
+  // grouping + search; both are applied on the server
+  const [groupBy, setGroupBy] = useState<BoardGroupBy>("STATUS");
   const [expanded, setExpanded] = useState<Record<string, boolean>>({});
   const [query, setQuery] = useState<string>("");
 
+  // Stream handlers are registered once, so they read the current query through a ref
+  const queryRef = useRef(query);
+  queryRef.current = query;
+
   async function load() {
     setLoading(true);
     setError(null);
     try {
-      const data = await api.listTasks();
-      setTasks(data);
+      setBoard(await api.getBoard(groupBy, PAGE_SIZE, query.trim() || undefined));
     } catch (e: any) {
       setError(JSON.stringify(e));
     } finally {
@@ -53,15 +115,80 @@ export default function TaskList() {
     }
   }
 
+  // Reload when the grouping or the filter changes, waiting for typing to pause
   useEffect(() => {
-    load();
-  }, []);
+    const timer = setTimeout(load, query ? 250 : 0);
+    return () => clearTimeout(timer);
+  }, [groupBy, query]);
+
+  const boardRef = useRef(board);
+  boardRef.current = board;
+  const reload = useRef(load);
+  reload.current = load;
+
+  // A task the board does not list may sit in the unloaded part of a group, where only
+  // the server knows whether it is already counted
+  function applyUpsert(task: Task) {
+    const current = boardRef.current;
+    if (current && !isListed(current, task.id) && !isComplete(current)) {
+      reload.current();
+    } else {
+      setBoard((b) => b && placeTask(b, task, queryRef.current));
+    }
+  }
+
+  // Changes from this and other tabs arrive through the stream, so writes need no reload
+  useEffect(
+    () =>
+      api.subscribeTasks({
+        onUpsert: applyUpsert,
+        onDelete: (id) => setBoard((b) => b && removeTask(b, id)),
+        onReset: () => reload.current(),
+      }),
+    []
+  );
+
+  async function showMore(group: TaskBoardGroup<Task>) {
+    if (!board || !group.nextCursor) return;
+    try {
+      const page = await api.getBoardGroup(board.groupBy, group.key, PAGE_SIZE, {
+        cursor: group.nextCursor,
+        q: query.trim() || undefined,
+      });
+      setBoard((b) =>
+        b && {
+          ...b,
+          groups: b.groups.map((g) =>
+            g.key === group.key
+              ? {
+                  ...g,
+                  items: [...g.items, ...page.items.filter((t) => !g.items.some((i) => i.id === t.id))],
+                  nextCursor: page.nextCursor,
+                }
+              : g
+          ),
+        }
+      );
+    } catch (e: any) {
+      setError(JSON.stringify(e));
+    }
+  }
 
   async function handleCreate(task: Task) {
     try {
-      await api.createTask(task);
+      const created = await api.createTask(task);
       setShowCreate(false);
-      await load();
+      applyUpsert(created);
+    } catch (e: any) {
+      setError(JSON.stringify(e));
+    }
+  }
+
+  // List rows are summaries without a description, so load the full task before editing
+  async function startEdit(task: Task) {
+    try {
+      if (task.id == null) return;
+      setEditing(await api.getTask(task.id));
     } catch (e: any) {
       setError(JSON.stringify(e));
     }
@@ -70,9 +197,9 @@ export default function TaskList() {
   async function handleUpdate(task: Task) {
     try {
       if (task.id == null) throw new Error("Missing id");
-      await api.updateTask(task.id, task);
+      const updated = await api.updateTask(task.id, task);
       setEditing(null);
-      await load();
+      applyUpsert(updated);
     } catch (e: any) {
       setError(JSON.stringify(e));
     }
@@ -83,7 +210,7 @@ export default function TaskList() {
     if (!confirm("Delete task?")) return;
     try {
       await api.deleteTask(id);
-      await load();
+      setBoard((b) => b && removeTask(b, id));
     } catch (e: any) {
       setError(JSON.stringify(e));
     }
@@ -92,71 +219,17 @@ export default function TaskList() {
   async function changeStatus(task: Task, newStatus: Task["status"]) {
     try {
       if (!task.id) return;
-      await api.updateTask(task.id, { ...task, status: newStatus });
-      await load();
+      await api.patchTask(task.id, { status: newStatus });
+      applyUpsert({ ...task, status: newStatus });
     } catch (e: any) {
       setError(JSON.stringify(e));
     }
   }
 
-  function toggleSortDir() {
-    setSortDir((d) => (d === "ASC" ? "DESC" : "ASC"));
-  }
-
   function toggleGroupExpanded(key: string) {
-    setExpanded((s) => ({ ...s, [key]: !s[key] }));
+    setExpanded((s) => ({ ...s, [key]: !(s[key] ?? true) }));
   }
 
-  const grouped = useMemo(() => {
-    // start with a copy and apply title filter
-    const all = tasks.slice();
-    const q = query.trim().toLowerCase();
-    const filtered = q ? all.filter((t) => (t.title ?? "").toLowerCase().includes(q)) : all;
-
-    // sort comparator used inside groups
-    const cmp = (a: Task, b: Task) => {
-      // primary: dueDate (earlier first), fallback: title
-      const ta = a.dueDate ? new Date(a.dueDate).getTime() : Number.POSITIVE_INFINITY;
-      const tb = b.dueDate ? new Date(b.dueDate).getTime() : Number.POSITIVE_INFINITY;
-      if (ta !== tb) return ta < tb ? -1 : 1;
-      return a.title.localeCompare(b.title);
-    };
-
-    if (sortDir === "DESC") {
-      filtered.sort((a, b) => -cmp(a, b));
-    } else {
-      filtered.sort(cmp);
-    }
-
-    if (groupBy === "STATUS") {
-      const map: Record<string, Task[]> = { TODO: [], IN_PROGRESS: [], DONE: [] };
-      for (const t of filtered) {
-        const key = t.status ?? "TODO";
-        if (!map[key]) map[key] = [];
-        map[key].push(t);
-      }
-      return map;
-    } else {
-      // group by due category
-      const map: Record<string, Task[]> = {};
-      for (const t of filtered) {
-        const key = dueCategory(t);
-        if (!map[key]) map[key] = [];
-        map[key].push(t);
-      }
-      // ensure stable ordering of groups for UI
-      const ordered: Record<string, Task[]> = {};
-      const order = ["Overdue", "Today", "Upcoming", "No due date"];
-      for (const k of order) {
-        if (map[k]) ordered[k] = map[k];
-      }
-      for (const k of Object.keys(map)) {
-        if (!ordered[k]) ordered[k] = map[k];
-      }
-      return ordered;
-    }
-  }, [tasks, groupBy, sortDir, query]);
-
   return (
     <div>
       <div className="header">
@@ -171,16 +244,11 @@ export default function TaskList() {
 
       <div style={{ display: "flex", gap: 8, alignItems: "center", marginBottom: 12 }}>
         <label style={{ fontWeight: 600 }}>Group:</label>
-        <select value={groupBy} onChange={(e) => setGroupBy(e.target.value as GroupBy)}>
+        <select value={groupBy} onChange={(e) => setGroupBy(e.target.value as BoardGroupBy)}>
           <option value="STATUS">By status</option>
           <option value="DUEDATE">By due date</option>
         </select>
 
-        <label style={{ fontWeight: 600, marginLeft: 12 }}>Sort:</label>
-        <button onClick={toggleSortDir} className="secondary" style={{ marginLeft: 8 }}>
-          {sortDir === "ASC" ? "Asc" : "Desc"}
-        </button>
-
         {/* Search input placed at far right */}
         <div style={{ marginLeft: "auto", display: "flex", gap: 8, alignItems: "center" }}>
           <input
@@ -202,27 +270,27 @@ export default function TaskList() {
 
       {editing && <TaskForm initial={editing} onSave={handleUpdate} onCancel={() => setEditing(null)} />}
 
-      {loading ? (
+      {loading && !board ? (
         <div>Loading...</div>
       ) : (
-        Object.keys(grouped).map((group) => {
-          const list = (grouped as Record<string, Task[]>)[group];
-          const isEmpty = !list || list.length === 0;
-          const isExpanded = expanded[group] ?? true;
+        board?.groups.map((group) => {
+          const list = group.items;
+          const isEmpty = group.count === 0;
+          const isExpanded = expanded[group.key] ?? true;
           return (
-            <div key={group} className="card" style={{ marginBottom: 10 }}>
+            <div key={group.key} className="card" style={{ marginBottom: 10 }}>
               <div style={{ display: "flex", justifyContent: "space-between", alignItems: "center" }}>
                 <div style={{ fontWeight: 700 }}>
-                  {group} ({list ? list.length : 0})
+                  {groupLabel(board.groupBy, group.key)} ({group.count})
                 </div>
                 <div style={{ display: "flex", gap: 8, alignItems: "center" }}>
-                  <button onClick={() => toggleGroupExpanded(group)} className="secondary">
+                  <button onClick={() => toggleGroupExpanded(group.key)} className="secondary">
                     {isExpanded ? "Collapse" : "Expand"}
                   </button>
                 </div>
               </div>
 
-              {isExpanded && !isEmpty && (
+              {isExpanded && list.length > 0 && (
                 <table className="tasks" style={{ marginTop: 10 }}>
                   <thead>
                     <tr>
@@ -245,7 +313,7 @@ export default function TaskList() {
                         </td>
                         <td>{t.dueDate ?? "-"}</td>
                         <td>
-                          <button onClick={() => setEditing(t)}>Edit</button>
+                          <button onClick={() => startEdit(t)}>Edit</button>
                           <button onClick={() => handleDelete(t.id)} className="danger">
                             Delete
                           </button>
@@ -256,6 +324,12 @@ export default function TaskList() {
                 </table>
               )}
 
+              {isExpanded && group.nextCursor && (
+                <button onClick={() => showMore(group)} className="secondary" style={{ marginTop: 8 }}>
+                  Show more ({group.count - list.length})
+                </button>
+              )}
+
               {isExpanded && isEmpty && <div style={{ marginTop: 8 }}>No tasks in this group.</div>}
             </div>
           );
@@ -0,0 +1,57 @@
+package com.example.taskmanager.jmh;
+
+import com.example.taskmanager.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error bodies as {@code GlobalExceptionHandler} builds them: construction, which reads the
+ * clock, and the serialized response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private final ObjectMapper objectMapper = HotPathFixtures.objectMapper();
+
+    private ErrorResponse validationError;
+
+    @Setup
+    public void setUp() {
+        validationError = validationError();
+    }
+
+    @Benchmark
+    public ErrorResponse notFound() {
+        return new ErrorResponse(404, "Not Found", "Task not found with id: 42", "/api/tasks/42");
+    }
+
+    @Benchmark
+    public ErrorResponse validationFailed() {
+        return validationError();
+    }
+
+    @Benchmark
+    public byte[] serializeValidationFailed() throws IOException {
+        return objectMapper.writeValueAsBytes(validationError);
+    }
+
+    private static ErrorResponse validationError() {
+        Map<String, String> validationErrors = new HashMap<>();
+        validationErrors.put("title", "Title is required");
+        validationErrors.put("description", "Description must be at most 500 characters");
+        ErrorResponse error = new ErrorResponse(400, "Validation Failed",
+                "Input validation failed. Check 'validationErrors' for details.", "/api/tasks");
+        error.setValidationErrors(validationErrors);
+        return error;
+    }
+}
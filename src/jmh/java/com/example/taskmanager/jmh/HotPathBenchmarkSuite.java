@@ -0,0 +1,45 @@
+package com.example.taskmanager.jmh;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the JMH benchmarks of the request hot path with the GC profiler, so every result
+ * carries {@code gc.alloc.rate.norm} (bytes allocated per operation) next to its time.
+ * Results are written as JSON to {@code jmh.result}; compare two runs' files to see what a
+ * commit changed.
+ * Run with {@code mvn test -Pjmh [-Djmh.include=TaskJson] [-Djmh.result=target/jmh-result.json]}.
+ */
+class HotPathBenchmarkSuite {
+
+    private static final String INCLUDE = System.getProperty("jmh.include",
+            HotPathBenchmarkSuite.class.getPackageName() + "\\..*Benchmark");
+    private static final String RESULT = System.getProperty("jmh.result", "target/jmh-result.json");
+
+    @Test
+    void hotPath() throws RunnerException {
+        new File(RESULT).getAbsoluteFile().getParentFile().mkdirs();
+        Options options = new OptionsBuilder()
+                .include(INCLUDE)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT)
+                .shouldFailOnError(true)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty(), "No benchmarks matched " + INCLUDE);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanager.jmh;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Inputs shared by the hot path benchmarks. The data is seeded, so every run and every
+ * commit measures the same tasks.
+ */
+final class HotPathFixtures {
+
+    private HotPathFixtures() {
+    }
+
+    /**
+     * Configured as Spring Boot builds the application's mapper from the
+     * {@code spring.jackson.*} settings in application.properties.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .build();
+    }
+
+    /**
+     * A single task with a description and a due date, so no property is skipped.
+     */
+    static Task task() {
+        return tasks(10).stream()
+                .filter(task -> task.getDescription() != null && task.getDueDate() != null)
+                .findFirst().orElseThrow();
+    }
+
+    /**
+     * Persisted-looking tasks: ids, versions and timestamps set, a mix of statuses, and due
+     * dates spread around today (some missing) so the overdue and due-today properties vary.
+     */
+    static List<Task> tasks(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        LocalDateTime created = today.minusDays(30).atTime(9, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate dueDate = random.nextInt(5) == 0 ? null : today.plusDays(random.nextInt(60) - 20);
+            Task task = new Task("Task " + i + " " + "title".repeat(1 + random.nextInt(8)),
+                    random.nextBoolean() ? "Description of task " + i + " " + "details ".repeat(random.nextInt(40)) : null,
+                    TaskStatus.values()[random.nextInt(TaskStatus.values().length)], dueDate);
+            task.setId(i + 1L);
+            task.setVersion((long) random.nextInt(5));
+            task.setCreatedAt(created.plusMinutes(i));
+            task.setUpdatedAt(created.plusMinutes(i).plusHours(random.nextInt(500)));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanager.jmh;
+
+import com.example.taskmanager.model.Task;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson on the request path: a task as returned by {@code GET /api/tasks/{id}} and read by
+ * POST and PUT, and lists of tasks. Serialization includes the computed {@code overdue} and
+ * {@code dueToday} properties, which read the clock for every task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    private final ObjectMapper objectMapper = HotPathFixtures.objectMapper();
+    private final JavaType taskList = objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class);
+
+    private Task task;
+    private byte[] taskJson;
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+
+        @Param({"20", "500"})
+        int size;
+
+        List<Task> tasks;
+        byte[] json;
+
+        @Setup
+        public void setUp(TaskJsonBenchmark benchmark) throws IOException {
+            tasks = HotPathFixtures.tasks(size);
+            json = benchmark.objectMapper.writeValueAsBytes(tasks);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        task = HotPathFixtures.task();
+        taskJson = objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws IOException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws IOException {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList(Lists lists) throws IOException {
+        return objectMapper.writeValueAsBytes(lists.tasks);
+    }
+
+    @Benchmark
+    public List<Task> deserializeTaskList(Lists lists) throws IOException {
+        return objectMapper.readValue(lists.json, taskList);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanager.jmh;
+
+import com.example.taskmanager.dto.TaskDTO;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskMapper} conversions, per task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private Task task;
+    private TaskDTO dto;
+    private TaskSummary summary;
+
+    @Setup
+    public void setUp() {
+        task = HotPathFixtures.task();
+        dto = taskMapper.toDTO(task);
+        summary = TaskSummary.of(task);
+    }
+
+    @Benchmark
+    public TaskDTO toDTO() {
+        return taskMapper.toDTO(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(dto);
+    }
+
+    /**
+     * The per-row mapping of every list endpoint.
+     */
+    @Benchmark
+    public TaskResponseDTO toResponse() {
+        return taskMapper.toResponse(summary);
+    }
+}
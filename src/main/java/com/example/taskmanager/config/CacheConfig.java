@@ -0,0 +1,100 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on an in-process Caffeine JCache provider.
+ * <p>
+ * Regions are created up front with explicit bounds: {@value Task#CACHE_REGION} holds task
+ * entities by id and {@value TaskRepository#QUERY_CACHE_REGION} holds the results of the
+ * cacheable repository queries. Hibernate keeps both coherent: entity writes update or evict
+ * their entry, and every write bumps the table's entry in the update-timestamps region, which
+ * invalidates cached query results for that table. The single-statement writes of
+ * {@code TaskRepositoryCustom} do both for just the rows they touch. Writes that bypass
+ * Hibernate, such as plain JDBC, are not seen.
+ * <p>
+ * With sharding enabled the query cache is off: the same query runs on every shard, and
+ * the cache key does not say which shard a result came from.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+  /**
+   * One manager per application context, so test contexts running against different
+   * databases never see each other's cached rows.
+   */
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+          @Value("${app.cache.task.max-size:10000}") long taskMaxSize,
+          @Value("${app.cache.task.ttl:10m}") Duration taskTtl,
+          @Value("${app.cache.query.max-size:1000}") long queryMaxSize,
+          @Value("${app.cache.query.ttl:1m}") Duration queryTtl) {
+    CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+            CaffeineCachingProvider.class.getName());
+    CacheManager cacheManager = provider.getCacheManager(
+            URI.create("taskmanager-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+    cacheManager.createCache(Task.CACHE_REGION, region(taskMaxSize, taskTtl));
+    cacheManager.createCache(TaskRepository.QUERY_CACHE_REGION, region(queryMaxSize, queryTtl));
+    cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            region(queryMaxSize, queryTtl));
+    // Timestamps must outlive every cached query result, so this region is never bounded
+    cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            new CaffeineConfiguration<>().setStoreByValue(false));
+
+    log.info("Second-level cache: tasks max {} ttl {}, queries max {} ttl {}",
+            taskMaxSize, taskTtl, queryMaxSize, queryTtl);
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+          CacheManager hibernateCacheManager,
+          @Value("${app.cache.statistics:true}") boolean statistics,
+          @Value("${app.sharding.urls:}") List<String> shardUrls) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.USE_QUERY_CACHE, shardUrls.size() <= 1);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+      if (statistics) {
+        properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+      }
+    };
+  }
+
+  /**
+   * Entries are kept by reference: Hibernate already stores disassembled, immutable state.
+   */
+  private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+    return new CaffeineConfiguration<>()
+            .setStoreByValue(false)
+            .setMaximumSize(OptionalLong.of(maxSize))
+            .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanager.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * The one clock every service reads "now" and "today" from, so the day boundary used
+ * for overdue and due-today lookups is the same everywhere and tests can fix the time.
+ */
+@Configuration
+public class ClockConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(ClockConfig.class);
+
+  /**
+   * Uses {@code app.time-zone} when set, otherwise the JVM's default zone.
+   */
+  @Bean
+  public Clock clock(@Value("${app.time-zone:}") String timeZone) {
+    ZoneId zone = timeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(timeZone);
+    log.info("Business day time zone: {}", zone);
+    return Clock.system(zone);
+  }
+}
@@ -38,6 +38,7 @@ public class CorsConfig implements WebMvcConfigurer {
     CorsRegistration registration = registry.addMapping("/api/**")
             .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
             .allowedHeaders("*")
+            .exposedHeaders("ETag")
             .maxAge(3600);
 
     if (originsArray == null || originsArray.length == 0) {
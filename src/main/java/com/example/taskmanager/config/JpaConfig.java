@@ -0,0 +1,33 @@
+package com.example.taskmanager.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate tuning that has to be in place regardless of the active property sources.
+ */
+@Configuration
+public class JpaConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(JpaConfig.class);
+
+  /**
+   * Groups inserts and updates into JDBC batches. Requires sequence-generated ids,
+   * which is why {@code Task} does not use IDENTITY.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+          @Value("${app.jpa.batch-size:50}") int batchSize) {
+    log.info("Hibernate JDBC batch size: {}", batchSize);
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.put(AvailableSettings.ORDER_INSERTS, true);
+      properties.put(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+}
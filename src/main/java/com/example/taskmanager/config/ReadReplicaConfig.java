@@ -0,0 +1,100 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.datasource.ReadWriteRoutingDataSource;
+import com.example.taskmanager.datasource.ReadYourWritesFilter;
+import com.example.taskmanager.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Read/write splitting, enabled by setting {@code app.datasource.replica.url}.
+ * <p>
+ * The primary pool is built from the usual {@code spring.datasource.*} properties and the
+ * replica pool from {@code app.datasource.replica.*}. The application's {@link DataSource}
+ * becomes a lazy proxy over {@link ReadWriteRoutingDataSource}, so read-only transactions
+ * are served by the replica and everything else, including schema management, by the primary.
+ * {@link ReadYourWritesFilter} tracks each HTTP client's last write in a cookie, so a client's
+ * reads stay on the primary for a short window after its own writes.
+ * Keeping the replica's schema and data in step is left to database replication.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+  @Bean
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+    return primary;
+  }
+
+  @Bean
+  public HikariDataSource replicaDataSource(
+          @Value("${app.datasource.replica.url}") String url,
+          @Value("${app.datasource.replica.username:${spring.datasource.username:sa}}") String username,
+          @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+          @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+    HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    replica.setPoolName("replica");
+    replica.setMaximumPoolSize(maximumPoolSize);
+    replica.setReadOnly(true);
+    return replica;
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+          @Qualifier("primaryDataSource") DataSource primary,
+          @Qualifier("replicaDataSource") DataSource replica,
+          @Value("${app.datasource.replica.read-your-writes-window:PT2S}") Duration readYourWritesWindow,
+          Clock clock) {
+    log.info("Routing read-only transactions to the replica (read-your-writes window {})", readYourWritesWindow);
+    return new ReadWriteRoutingDataSource(primary, replica, readYourWritesWindow, clock);
+  }
+
+  @Bean
+  public ReadYourWritesFilter readYourWritesFilter(
+          @Value("${app.datasource.replica.read-your-writes-window:PT2S}") Duration readYourWritesWindow,
+          Clock clock) {
+    return new ReadYourWritesFilter(readYourWritesWindow, clock);
+  }
+
+  /**
+   * The lazy proxy defers fetching a physical connection until the first statement,
+   * by which time the transaction's read-only flag decides the route.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource routing) {
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+          ReadWriteRoutingDataSource routing,
+          @Qualifier("replicaDataSource") DataSource replica,
+          @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+          @Value("${app.datasource.replica.max-lag:PT5S}") Duration maxLag) {
+    return new ReplicaLagMonitor(routing, replica, lagQuery, maxLag);
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.model.TaskIdGenerator;
+import com.example.taskmanager.shard.ShardContext;
+import com.example.taskmanager.shard.ShardRoutingDataSource;
+import com.example.taskmanager.shard.ShardRoutingInterceptor;
+import com.example.taskmanager.shard.ShardedIds;
+import com.example.taskmanager.shard.TaskShards;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.relational.SchemaManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hash-sharded task storage, enabled by listing one JDBC URL per shard in
+ * {@code app.sharding.urls}; the first URL is shard 0. All shards share the
+ * {@code spring.datasource} credentials.
+ * <p>
+ * New tasks go to the shards in turn and get ids that encode their shard (see
+ * {@link ShardedIds}), so single-task operations are routed by their id alone and list
+ * queries fan out to every shard. The shard list must not be reordered once it holds data.
+ * Not combinable with {@link ReadReplicaConfig}: both replace the application's DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.urls")
+public class ShardingConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+  private static final Set<String> CREATING_DDL_ACTIONS = Set.of("create", "create-drop", "create-only");
+
+  @Bean
+  public ShardRoutingDataSource shardRoutingDataSource(
+          @Value("${app.sharding.urls}") List<String> urls,
+          @Value("${app.sharding.maximum-pool-size:10}") int maximumPoolSize,
+          DataSourceProperties properties) {
+    if (urls.size() > ShardedIds.MAX_SHARDS) {
+      throw new IllegalStateException("At most " + ShardedIds.MAX_SHARDS + " shards are supported");
+    }
+    List<HikariDataSource> shards = new ArrayList<>(urls.size());
+    for (int shard = 0; shard < urls.size(); shard++) {
+      HikariDataSource dataSource = DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .url(urls.get(shard))
+              .username(properties.determineUsername())
+              .password(properties.determinePassword())
+              .build();
+      dataSource.setPoolName("shard-" + shard);
+      dataSource.setMaximumPoolSize(maximumPoolSize);
+      shards.add(dataSource);
+    }
+    log.info("Sharding tasks across {} databases", shards.size());
+    return new ShardRoutingDataSource(shards);
+  }
+
+  /**
+   * The lazy proxy defers fetching a physical connection until the first statement, so a
+   * transaction that only fans out to other threads never holds a connection of its own.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ShardRoutingDataSource routing) {
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  @Bean
+  public ShardedIds shardedIds(@Value("${app.sharding.worker-id:0}") int workerId, Clock clock) {
+    return new ShardedIds(workerId, clock);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer shardedIdsCustomizer(ShardedIds shardedIds) {
+    return properties -> properties.put(TaskIdGenerator.ID_SOURCE, shardedIds);
+  }
+
+  /**
+   * Runs ahead of the transaction interceptor, so the shard is bound before a transaction
+   * fetches its connection.
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor shardRoutingAdvisor(@Lazy TaskShards shards) {
+    DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            ShardRoutingInterceptor.pointcut(), new ShardRoutingInterceptor(shards));
+    advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return advisor;
+  }
+
+  /**
+   * Hibernate only manages the schema of the database it starts on, shard 0; when it
+   * creates that schema, the same schema is created on the other shards.
+   */
+  @Bean
+  public SmartInitializingSingleton shardSchemaExporter(EntityManagerFactory entityManagerFactory,
+                                                        TaskShards shards) {
+    return () -> {
+      Object action = entityManagerFactory.getProperties().get(AvailableSettings.HBM2DDL_AUTO);
+      if (action == null || !CREATING_DDL_ACTIONS.contains(action.toString())) {
+        return;
+      }
+      SchemaManager schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+      for (int shard = 1; shard < shards.count(); shard++) {
+        ShardContext.callOn(shard, () -> {
+          if (!"create-only".equals(action.toString())) {
+            schemaManager.dropMappedObjects(true);
+          }
+          schemaManager.exportMappedObjects(true);
+          return null;
+        });
+      }
+      log.info("Created the task schema on {} further shards", shards.count() - 1);
+    };
+  }
+}
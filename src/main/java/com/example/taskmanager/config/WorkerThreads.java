@@ -0,0 +1,39 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the application's own background work, following the request
+ * threading mode: virtual threads when {@code spring.threads.virtual.enabled} is set and the
+ * JVM is Java 21 or later, as for Tomcat and Spring's task executors, daemon platform threads
+ * otherwise. The check goes through Spring Boot, so this class compiles and runs on Java 17.
+ */
+public final class WorkerThreads {
+
+  private WorkerThreads() {
+  }
+
+  public static boolean isVirtual(Environment environment) {
+    return Threading.VIRTUAL.isActive(environment);
+  }
+
+  /**
+   * Names threads {@code <name>-1}, {@code <name>-2}, ...
+   */
+  public static ThreadFactory factory(String name, boolean virtual) {
+    if (virtual) {
+      return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+    }
+    AtomicInteger threads = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
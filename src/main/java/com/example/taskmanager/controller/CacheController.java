@@ -0,0 +1,35 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CacheStatistics;
+import com.example.taskmanager.service.CacheStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational view of the second-level cache.
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheController.class);
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    /**
+     * Hit, miss and put counts per cache region since startup.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatistics> getStatistics() {
+        log.info("GET /api/cache/stats");
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+}
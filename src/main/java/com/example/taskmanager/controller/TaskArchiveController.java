@@ -0,0 +1,50 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.model.ArchivedTask;
+import com.example.taskmanager.service.TaskArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read-only access to completed tasks that were moved out of {@code /api/tasks} by the archiver.
+ */
+@RestController
+@RequestMapping("/api/tasks/archive")
+public class TaskArchiveController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveController.class);
+
+    private final TaskArchiveService archiveService;
+    private final TaskMapper taskMapper;
+
+    public TaskArchiveController(TaskArchiveService archiveService, TaskMapper taskMapper) {
+        this.archiveService = archiveService;
+        this.taskMapper = taskMapper;
+    }
+
+    /**
+     * Keyset-paginated listing of archived tasks in id order; pass {@code nextCursor} back as {@code cursor}.
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<TaskResponseDTO>> getArchivedPage(
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /api/tasks/archive - limit: {}", limit);
+        return ResponseEntity.ok(archiveService.getArchivedPage(cursor, limit).map(taskMapper::toResponse));
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<ArchivedTask> getById(@PathVariable Long id) {
+        log.info("GET /api/tasks/archive/{}", id);
+        return ResponseEntity.ok(archiveService.getArchivedTask(id));
+    }
+}
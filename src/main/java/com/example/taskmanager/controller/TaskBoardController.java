@@ -0,0 +1,63 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.BoardGroupBy;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskBoard;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.service.TaskBoardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Grouped board view of the tasks, built on the server so a client renders every group's
+ * count and first items from one response and loads the rest of a group on demand.
+ */
+@RestController
+@RequestMapping("/api/tasks/board")
+public class TaskBoardController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBoardController.class);
+
+    private final TaskBoardService boardService;
+    private final TaskMapper taskMapper;
+
+    public TaskBoardController(TaskBoardService boardService, TaskMapper taskMapper) {
+        this.boardService = boardService;
+        this.taskMapper = taskMapper;
+    }
+
+    /**
+     * Every group with its total count and up to {@code limitPerGroup} tasks; {@code q}
+     * keeps only tasks whose title contains it.
+     */
+    @GetMapping
+    public ResponseEntity<TaskBoard<TaskResponseDTO>> getBoard(
+            @RequestParam(defaultValue = "STATUS") BoardGroupBy groupBy,
+            @RequestParam(defaultValue = "20") int limitPerGroup,
+            @RequestParam(required = false) String q) {
+        log.info("GET /api/tasks/board - groupBy: {}, limitPerGroup: {}", groupBy, limitPerGroup);
+        return ResponseEntity.ok(boardService.getBoard(groupBy, limitPerGroup, q).map(taskMapper::toResponse));
+    }
+
+    /**
+     * More tasks of one group: pass a group's {@code nextCursor} as {@code cursor}, with the
+     * same {@code groupBy} and {@code q} the board was fetched with.
+     */
+    @GetMapping("/{group}")
+    public ResponseEntity<CursorPage<TaskResponseDTO>> getGroupPage(
+            @PathVariable String group,
+            @RequestParam(defaultValue = "STATUS") BoardGroupBy groupBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String q) {
+        log.info("GET /api/tasks/board/{} - groupBy: {}, limit: {}", group, groupBy, limit);
+        return ResponseEntity.ok(boardService.getGroupPage(groupBy, group, q, cursor, limit).map(taskMapper::toResponse));
+    }
+}
@@ -1,15 +1,31 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.BatchCreateResult;
+import com.example.taskmanager.dto.BulkOperationResult;
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskStatusSummary;
+import com.example.taskmanager.dto.TaskSummary;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskExportService;
 import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -21,36 +37,118 @@ import java.util.List;
 public class TaskController {
 
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+
+    /** RFC 7396 media type for partial updates. */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBulkService taskBulkService;
+    private final TaskMapper taskMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskExportService taskExportService,
+                          TaskBulkService taskBulkService,
+                          TaskMapper taskMapper) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskBulkService = taskBulkService;
+        this.taskMapper = taskMapper;
     }
 
+    /**
+     * Lists tasks without their description; fetch a single task for the full record.
+     */
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks(
+    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(
             @RequestParam(required = false) TaskStatus status) {
         log.info("GET /api/tasks - status filter: {}", status);
         
-        List<Task> tasks = status != null 
+        List<TaskSummary> tasks = status != null 
             ? taskService.getTasksByStatus(status)
             : taskService.getAllTasks();
             
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok(toResponses(tasks));
+    }
+
+    /**
+     * Keyset-paginated variant of the listing, selected when a {@code limit} is given.
+     * Pass the returned {@code nextCursor} back as {@code cursor} to fetch the next page.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<TaskResponseDTO>> getTaskPage(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ID") TaskSortOrder sort) {
+        log.info("GET /api/tasks - status filter: {}, sort: {}, limit: {}", status, sort, limit);
+        return ResponseEntity.ok(taskService.getTaskPage(status, sort, cursor, limit).map(taskMapper::toResponse));
     }
 
+    /**
+     * Returns the task with a strong ETag. When {@code If-None-Match} still matches,
+     * answers 304 after reading only the version column. A status change buffered by
+     * write-behind is written first, so the version covers the status returned.
+     */
     @GetMapping("{id}")
-    public ResponseEntity<Task> getById(@PathVariable Long id) {
+    public ResponseEntity<Task> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("GET /api/tasks/{}", id);
+        taskService.writePendingStatus(id);
+        if (ifNoneMatch != null) {
+            long version = taskService.getTaskVersion(id);
+            if (TaskETags.matchesIfNoneMatch(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(TaskETags.of(version)).build();
+            }
+        }
         Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return withETag(ResponseEntity.ok(), task);
+    }
+
+    /**
+     * Task totals per status, served from in-memory counters without querying the database.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<TaskStatusSummary> getStatusSummary() {
+        log.debug("GET /api/tasks/summary");
+        return ResponseEntity.ok(taskService.getStatusSummary());
     }
 
     @GetMapping("/overdue")
-    public ResponseEntity<List<Task>> getOverdueTasks() {
+    public ResponseEntity<List<TaskResponseDTO>> getOverdueTasks() {
         log.info("GET /api/tasks/overdue");
-        List<Task> tasks = taskService.getOverdueTasks();
-        return ResponseEntity.ok(tasks);
+        List<TaskSummary> tasks = taskService.getOverdueTasks();
+        return ResponseEntity.ok(toResponses(tasks));
+    }
+
+    @GetMapping("/due-today")
+    public ResponseEntity<List<TaskResponseDTO>> getTasksDueToday() {
+        log.info("GET /api/tasks/due-today");
+        List<TaskSummary> tasks = taskService.getTasksDueToday();
+        return ResponseEntity.ok(toResponses(tasks));
+    }
+
+    /**
+     * Full-text search over title and description, ordered by relevance.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Task>> searchTasks(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /api/tasks/search - q: {}, limit: {}", q, limit);
+        return ResponseEntity.ok(taskService.searchTasks(q, limit));
+    }
+
+    /**
+     * Streams every task as newline-delimited JSON straight to the response body.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        log.info("GET /api/tasks/export");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"");
+        taskExportService.exportTo(response.getOutputStream());
     }
 
     @PostMapping
@@ -60,11 +158,43 @@ public class TaskController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many tasks in one transaction using JDBC batch inserts.
+     * Items are validated individually; any failure rejects the whole batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResult> createBatch(@RequestBody List<Task> tasks) {
+        log.info("POST /api/tasks/batch - {} tasks", tasks.size());
+        List<Long> ids = taskBulkService.createTasks(tasks);
+        return new ResponseEntity<>(new BatchCreateResult(ids), HttpStatus.CREATED);
+    }
+
+    /**
+     * Full update. With {@code If-Match} the task must still carry that ETag, else 412.
+     */
     @PutMapping("{id}")
-    public ResponseEntity<Task> update(@PathVariable Long id, @Valid @RequestBody Task task) {
+    public ResponseEntity<Task> update(
+            @PathVariable Long id,
+            @Valid @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/tasks/{}", id);
-        Task updated = taskService.updateTask(id, task);
-        return ResponseEntity.ok(updated);
+        Task updated = taskService.updateTask(id, task, TaskETags.expectedVersion(ifMatch));
+        return withETag(ResponseEntity.ok(), updated);
+    }
+
+    /**
+     * Partial update in JSON Merge Patch form, written as one UPDATE without reading the task.
+     * Plain {@code application/json} is accepted with the same semantics.
+     * With {@code If-Match} the version check is part of that UPDATE.
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/tasks/{}", id);
+        taskService.patchTask(id, patch, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{id}/status")
@@ -76,10 +206,44 @@ public class TaskController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Moves many tasks to a new status in set-based UPDATE statements.
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<BulkOperationResult> updateStatuses(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        log.info("PATCH /api/tasks/status - new status: {}", request.getStatus());
+        long affected = taskBulkService.updateStatus(request);
+        return ResponseEntity.ok(new BulkOperationResult(affected));
+    }
+
+    /**
+     * Deletes many tasks by id, e.g. {@code DELETE /api/tasks?ids=1,2,3}.
+     * Unknown ids are ignored; the response reports how many tasks were deleted.
+     */
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<BulkOperationResult> deleteTasks(@RequestParam List<Long> ids) {
+        log.info("DELETE /api/tasks - {} ids", ids.size());
+        long affected = taskBulkService.deleteTasks(ids);
+        return ResponseEntity.ok(new BulkOperationResult(affected));
+    }
+
     @DeleteMapping("{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/tasks/{}", id);
-        taskService.deleteTask(id);
+        taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    private static ResponseEntity<Task> withETag(ResponseEntity.BodyBuilder response, Task task) {
+        if (task.getVersion() != null) {
+            response.eTag(TaskETags.of(task.getVersion()));
+        }
+        return response.body(task);
+    }
+
+    private List<TaskResponseDTO> toResponses(List<TaskSummary> tasks) {
+        return tasks.stream().map(taskMapper::toResponse).toList();
+    }
 }
\ No newline at end of file
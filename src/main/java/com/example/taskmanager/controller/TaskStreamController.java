@@ -0,0 +1,39 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.service.TaskChangeFeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes task changes to clients as Server-Sent Events, so they can patch their state
+ * instead of re-fetching the list.
+ */
+@RestController
+@RequestMapping("/api/tasks/stream")
+public class TaskStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStreamController.class);
+
+    private final TaskChangeFeed changeFeed;
+
+    public TaskStreamController(TaskChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * Streams {@code created}, {@code updated} and {@code deleted} events. Browsers reconnect
+     * with {@code Last-Event-ID} and get the events they missed, or a {@code reset} event
+     * when those are no longer available.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("GET /api/tasks/stream - Last-Event-ID: {}", lastEventId);
+        return changeFeed.subscribe(lastEventId);
+    }
+}
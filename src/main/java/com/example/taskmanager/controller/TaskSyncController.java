@@ -0,0 +1,39 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskChanges;
+import com.example.taskmanager.service.TaskSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Delta sync for clients that keep their own copy of the tasks, such as offline and mobile apps.
+ */
+@RestController
+@RequestMapping("/api/tasks/changes")
+public class TaskSyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSyncController.class);
+
+    private final TaskSyncService syncService;
+
+    public TaskSyncController(TaskSyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Tasks created or changed and ids of tasks removed since {@code since}; without it, every
+     * task. Pass {@code nextToken} back as {@code since}, right away while {@code hasMore} is true.
+     */
+    @GetMapping
+    public ResponseEntity<TaskChanges> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.info("GET /api/tasks/changes - limit: {}", limit);
+        return ResponseEntity.ok(syncService.getChanges(since, limit));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.taskmanager.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * The choice is made when a transaction first needs a physical connection, so this data
+ * source must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * by then the transaction's read-only flag is known. Reads still go to the primary
+ * <ul>
+ *   <li>outside a transaction,</li>
+ *   <li>for a client within the read-your-writes window after one of its own write transactions
+ *       commits, so it never reads the replica from before its write; the client is the one
+ *       bound in {@link ReadYourWritesContext}, and other clients keep reading the replica, and</li>
+ *   <li>while {@link ReplicaLagMonitor} reports the replica as down or lagging too far behind.</li>
+ * </ul>
+ * The window only has to cover the replication lag, which is normally well under a second.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final Clock clock;
+    private final Duration readYourWritesWindow;
+    /** Starts false: the replica only takes reads once the monitor's first check has passed. */
+    private volatile boolean replicaAvailable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      Duration readYourWritesWindow, Clock clock) {
+        this.clock = clock;
+        this.readYourWritesWindow = readYourWritesWindow;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected DataSourceRole determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceRole.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext client = ReadYourWritesContext.current();
+            if (client != null) {
+                onCommit(() -> client.recordWrite(clock.instant()));
+            }
+            return DataSourceRole.PRIMARY;
+        }
+        return useReplica() ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+
+    private static void onCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Whether a read-only transaction starting now on this thread would be sent to the replica.
+     */
+    public boolean useReplica() {
+        if (!replicaAvailable) {
+            return false;
+        }
+        ReadYourWritesContext client = ReadYourWritesContext.current();
+        Instant lastWrite = client != null ? client.lastWrite() : null;
+        return lastWrite == null || clock.instant().isAfter(lastWrite.plus(readYourWritesWindow));
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    void markReplicaAvailable() {
+        if (!replicaAvailable) {
+            log.info("Replica is available; read-only transactions use it");
+        }
+        replicaAvailable = true;
+    }
+
+    void markReplicaUnavailable(String reason) {
+        if (replicaAvailable) {
+            log.warn("Sending all reads to the primary: {}", reason);
+        }
+        replicaAvailable = false;
+    }
+}
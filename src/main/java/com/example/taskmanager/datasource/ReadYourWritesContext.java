@@ -0,0 +1,70 @@
+package com.example.taskmanager.datasource;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The client the current thread works for, as far as read-your-writes is concerned: when it
+ * last committed a write, and who to tell when it commits another. Bound for the length of
+ * a request by {@link ReadYourWritesFilter}; threads without a binding (schedulers, the
+ * status write-behind) act for no client, and their writes pin no one's reads.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<ReadYourWritesContext> CURRENT = new ThreadLocal<>();
+
+    private volatile Instant lastWrite;
+    private final Consumer<Instant> onWrite;
+
+    /**
+     * @param lastWrite when the client last committed a write, or null if not recently
+     * @param onWrite   told the commit time of each write made for the client from now on
+     */
+    public ReadYourWritesContext(Instant lastWrite, Consumer<Instant> onWrite) {
+        this.lastWrite = lastWrite;
+        this.onWrite = onWrite;
+    }
+
+    /**
+     * The bound client, or null when none is bound.
+     */
+    public static ReadYourWritesContext current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callAs(ReadYourWritesContext client, Supplier<T> work) {
+        ReadYourWritesContext previous = bind(client);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Binds {@code client} and returns the previous binding, to be passed to {@link #restore}.
+     */
+    static ReadYourWritesContext bind(ReadYourWritesContext client) {
+        ReadYourWritesContext previous = CURRENT.get();
+        CURRENT.set(client);
+        return previous;
+    }
+
+    static void restore(ReadYourWritesContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public Instant lastWrite() {
+        return lastWrite;
+    }
+
+    void recordWrite(Instant committedAt) {
+        lastWrite = committedAt;
+        onWrite.accept(committedAt);
+    }
+}
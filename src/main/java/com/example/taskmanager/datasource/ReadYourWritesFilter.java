@@ -0,0 +1,79 @@
+package com.example.taskmanager.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Carries a client's last write between its requests in the {@value #COOKIE} cookie, so
+ * {@link ReadWriteRoutingDataSource} keeps only that client's reads on the primary after it
+ * writes. The cookie holds the commit time in epoch milliseconds and expires with the
+ * read-your-writes window. It is set when a write commits, which for the task API is always
+ * before the response is committed; a client that drops cookies may read its writes late.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "last-write";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWritesContext client = new ReadYourWritesContext(lastWrite(request), committedAt -> {
+            if (!response.isCommitted()) {
+                response.addCookie(cookie(committedAt));
+            }
+        });
+        ReadYourWritesContext previous = ReadYourWritesContext.bind(client);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.restore(previous);
+        }
+    }
+
+    /**
+     * The write time from the request's cookie; null when absent, malformed or in the future.
+     */
+    private Instant lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    Instant written = Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                    return written.isAfter(clock.instant()) ? null : written;
+                } catch (NumberFormatException ignored) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Cookie cookie(Instant committedAt) {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(committedAt.toEpochMilli()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        // Rounded up to whole seconds
+        cookie.setMaxAge((int) Math.max(1, window.plusMillis(999).toSeconds()));
+        return cookie;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.taskmanager.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Probes the replica on a schedule and takes it out of read routing while it is
+ * unreachable or lags the primary by more than the allowed maximum.
+ * <p>
+ * Lag is read with a database-specific query returning milliseconds, e.g. on PostgreSQL
+ * {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000}.
+ * Without a lag query only reachability is checked.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReadWriteRoutingDataSource routing;
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routing, DataSource replica,
+                             String lagQuery, Duration maxLag) {
+        this.routing = routing;
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(5);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval:PT5S}")
+    public void check() {
+        Duration lag;
+        try {
+            lag = lagQuery.isBlank()
+                    ? probe()
+                    : Duration.ofMillis(replica.queryForObject(lagQuery, Number.class).longValue());
+        } catch (RuntimeException ex) {
+            routing.markReplicaUnavailable("replica check failed: " + ex.getMessage());
+            return;
+        }
+        if (lag.compareTo(maxLag) > 0) {
+            routing.markReplicaUnavailable("replica lag " + lag.toMillis() + " ms exceeds " + maxLag.toMillis() + " ms");
+        } else {
+            log.trace("Replica lag {} ms", lag.toMillis());
+            routing.markReplicaAvailable();
+        }
+    }
+
+    private Duration probe() {
+        replica.queryForObject("SELECT 1", Integer.class);
+        return Duration.ZERO;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Response for a bulk create: the number of tasks inserted and their ids,
+ * in the same order as the submitted items.
+ */
+public class BatchCreateResult {
+
+    private final int created;
+    private final List<Long> ids;
+
+    public BatchCreateResult(List<Long> ids) {
+        this.created = ids.size();
+        this.ids = ids;
+    }
+
+    public int getCreated() { return created; }
+
+    public List<Long> getIds() { return ids; }
+}
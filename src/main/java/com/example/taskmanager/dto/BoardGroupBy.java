@@ -0,0 +1,11 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Groupings supported by the task board.
+ */
+public enum BoardGroupBy {
+    /** One group per {@link com.example.taskmanager.model.TaskStatus}. */
+    STATUS,
+    /** One group per {@link DueCategory}. */
+    DUEDATE
+}
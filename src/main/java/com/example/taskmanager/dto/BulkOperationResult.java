@@ -0,0 +1,15 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Response for set-based operations: the number of rows the database reported as affected.
+ */
+public class BulkOperationResult {
+
+    private final long affected;
+
+    public BulkOperationResult(long affected) {
+        this.affected = affected;
+    }
+
+    public long getAffected() { return affected; }
+}
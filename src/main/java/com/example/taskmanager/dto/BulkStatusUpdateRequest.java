@@ -0,0 +1,41 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request body for a bulk status transition. Tasks are selected by an explicit id list,
+ * by a filter (current status and/or due-date range), or by both combined.
+ */
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Target status is required")
+    private TaskStatus status;
+
+    private List<Long> ids;
+    private TaskStatus fromStatus;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+
+    // Constructors
+    public BulkStatusUpdateRequest() {}
+
+    // Getters and Setters
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public TaskStatus getFromStatus() { return fromStatus; }
+    public void setFromStatus(TaskStatus fromStatus) { this.fromStatus = fromStatus; }
+
+    public LocalDate getDueFrom() { return dueFrom; }
+    public void setDueFrom(LocalDate dueFrom) { this.dueFrom = dueFrom; }
+
+    public LocalDate getDueTo() { return dueTo; }
+    public void setDueTo(LocalDate dueTo) { this.dueTo = dueTo; }
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Second-level cache counters since startup, per region, for sizing the cache.
+ *
+ * @param enabled false when statistics collection is switched off; all counters are then empty
+ */
+public record CacheStatistics(boolean enabled, List<Region> regions) {
+
+    public static CacheStatistics disabled() {
+        return new CacheStatistics(false, List.of());
+    }
+
+    /**
+     * @param size     entries currently held, or -1 when the provider does not report it
+     * @param hitRatio hits / (hits + misses), or 0 before the first lookup
+     */
+    public record Region(String name, long hits, long misses, long puts, long size, double hitRatio) {
+
+        public static Region of(String name, long hits, long misses, long puts, long size) {
+            long lookups = hits + misses;
+            return new Region(name, hits, misses, puts, size, lookups == 0 ? 0 : (double) hits / lookups);
+        }
+    }
+}
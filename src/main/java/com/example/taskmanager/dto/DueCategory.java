@@ -0,0 +1,11 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Where a task's due date falls relative to today, whatever its status.
+ */
+public enum DueCategory {
+    OVERDUE,
+    TODAY,
+    UPCOMING,
+    NONE
+}
@@ -0,0 +1,109 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of a delta sync client: the last (updatedAt, id) of the changed tasks and the
+ * last (deletedAt, taskId) of the tombstones it has seen. Encoded as an opaque URL-safe
+ * string, like {@link TaskCursor}.
+ */
+public final class SyncToken {
+
+    private static final String SEPARATOR = "|";
+
+    /** Before any stored timestamp, for clients that hold no tasks yet. */
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime changedAt;
+    private final long changedId;
+    private final LocalDateTime deletedAt;
+    private final long deletedId;
+
+    public SyncToken(LocalDateTime changedAt, long changedId, LocalDateTime deletedAt, long deletedId) {
+        this.changedAt = Objects.requireNonNull(changedAt, "changedAt");
+        this.changedId = changedId;
+        this.deletedAt = Objects.requireNonNull(deletedAt, "deletedAt");
+        this.deletedId = deletedId;
+    }
+
+    /**
+     * Token of a client without tasks: every task is a change, and deletions before
+     * {@code now} concern tasks it never had.
+     */
+    public static SyncToken initial(LocalDateTime now) {
+        return new SyncToken(BEGINNING, Long.MIN_VALUE, now, Long.MAX_VALUE);
+    }
+
+    public static SyncToken decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Malformed sync token", ex);
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != 4) {
+            throw new InvalidRequestException("Malformed sync token");
+        }
+        try {
+            return new SyncToken(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Malformed sync token", ex);
+        }
+    }
+
+    /**
+     * Same token with the changed-tasks position moved to the given task.
+     */
+    public SyncToken withChanged(LocalDateTime updatedAt, long id) {
+        return new SyncToken(updatedAt, id, deletedAt, deletedId);
+    }
+
+    /**
+     * Same token with the tombstone position moved to the given tombstone.
+     */
+    public SyncToken withDeleted(LocalDateTime deletedAt, long taskId) {
+        return new SyncToken(changedAt, changedId, deletedAt, taskId);
+    }
+
+    public String encode() {
+        String raw = changedAt + SEPARATOR + changedId + SEPARATOR + deletedAt + SEPARATOR + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+
+    public long getChangedId() { return changedId; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+
+    public long getDeletedId() { return deletedId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SyncToken)) return false;
+        SyncToken that = (SyncToken) o;
+        return changedId == that.changedId && deletedId == that.deletedId
+                && changedAt.equals(that.changedAt) && deletedAt.equals(that.deletedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changedAt, changedId, deletedAt, deletedId);
+    }
+
+    @Override
+    public String toString() {
+        return "SyncToken{changedAt=" + changedAt + ", changedId=" + changedId
+                + ", deletedAt=" + deletedAt + ", deletedId=" + deletedId + '}';
+    }
+}
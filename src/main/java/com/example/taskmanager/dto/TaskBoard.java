@@ -0,0 +1,29 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Tasks grouped for a board view, every group of the grouping present even when empty.
+ */
+public class TaskBoard<T> {
+
+    private final BoardGroupBy groupBy;
+    private final List<TaskBoardGroup<T>> groups;
+
+    public TaskBoard(BoardGroupBy groupBy, List<TaskBoardGroup<T>> groups) {
+        this.groupBy = groupBy;
+        this.groups = groups;
+    }
+
+    public BoardGroupBy getGroupBy() { return groupBy; }
+
+    public List<TaskBoardGroup<T>> getGroups() { return groups; }
+
+    /**
+     * Same board with each item converted; counts and cursors are unchanged.
+     */
+    public <R> TaskBoard<R> map(Function<? super T, ? extends R> mapper) {
+        return new TaskBoard<>(groupBy, groups.stream().map(group -> group.<R>map(mapper)).toList());
+    }
+}
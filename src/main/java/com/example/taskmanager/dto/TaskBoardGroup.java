@@ -0,0 +1,35 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One column of the task board: the total number of tasks in the group and its first items.
+ * {@code nextCursor} fetches the rest of the group and is null when all items are listed.
+ */
+public class TaskBoardGroup<T> {
+
+    private final String key;
+    private final long count;
+    private final List<T> items;
+    private final String nextCursor;
+
+    public TaskBoardGroup(String key, long count, List<T> items, String nextCursor) {
+        this.key = key;
+        this.count = count;
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public String getKey() { return key; }
+
+    public long getCount() { return count; }
+
+    public List<T> getItems() { return items; }
+
+    public String getNextCursor() { return nextCursor; }
+
+    public <R> TaskBoardGroup<R> map(Function<? super T, ? extends R> mapper) {
+        return new TaskBoardGroup<>(key, count, items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.Task;
+
+import java.util.List;
+
+/**
+ * One delta sync response: tasks created or changed, ids of tasks removed, and the token to
+ * pass as {@code since} next time. {@code hasMore} asks the client to call again right away.
+ * {@code reset} means the client's token was too old; it must drop its tasks and apply this
+ * response, and those that follow, as a fresh copy.
+ */
+public class TaskChanges {
+
+    private final List<Task> upserts;
+    private final List<Long> deletedIds;
+    private final String nextToken;
+    private final boolean hasMore;
+    private final boolean reset;
+
+    public TaskChanges(List<Task> upserts, List<Long> deletedIds, String nextToken, boolean hasMore, boolean reset) {
+        this.upserts = upserts;
+        this.deletedIds = deletedIds;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    public List<Task> getUpserts() { return upserts; }
+
+    public List<Long> getDeletedIds() { return deletedIds; }
+
+    public String getNextToken() { return nextToken; }
+
+    public boolean isHasMore() { return hasMore; }
+
+    public boolean isReset() { return reset; }
+}
@@ -0,0 +1,123 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position within a paginated task listing.
+ * Encoded as an opaque URL-safe string so clients never depend on its layout.
+ *
+ * <p>For {@link TaskSortOrder#DUE_DATE} the listing is split into two segments:
+ * tasks with a due date ordered by (dueDate, id), followed by tasks without one
+ * ordered by id. A cursor with an id but no due date points into the second segment.
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final TaskSortOrder order;
+    private final LocalDate dueDate;
+    private final Long id;
+
+    private TaskCursor(TaskSortOrder order, LocalDate dueDate, Long id) {
+        this.order = Objects.requireNonNull(order, "order");
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    /**
+     * Cursor positioned before the first row of the given ordering.
+     */
+    public static TaskCursor start(TaskSortOrder order) {
+        return new TaskCursor(order, null, null);
+    }
+
+    /**
+     * {@link TaskSortOrder#DUE_DATE} cursor positioned before the first task without a due date.
+     */
+    public static TaskCursor startOfUndated() {
+        return new TaskCursor(TaskSortOrder.DUE_DATE, null, Long.MIN_VALUE);
+    }
+
+    /**
+     * Cursor positioned directly after the given row.
+     */
+    public static TaskCursor after(TaskSortOrder order, LocalDate dueDate, Long id) {
+        Objects.requireNonNull(id, "id");
+        return new TaskCursor(order, order == TaskSortOrder.DUE_DATE ? dueDate : null, id);
+    }
+
+    public static TaskCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Malformed cursor", ex);
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        try {
+            TaskSortOrder order = TaskSortOrder.valueOf(parts[0]);
+            if (order == TaskSortOrder.ID && parts.length == 2) {
+                return after(order, null, Long.valueOf(parts[1]));
+            }
+            if (order == TaskSortOrder.DUE_DATE && parts.length == 3) {
+                LocalDate dueDate = parts[1].isEmpty() ? null : LocalDate.parse(parts[1]);
+                return after(order, dueDate, Long.valueOf(parts[2]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Malformed cursor", ex);
+        }
+        throw new InvalidRequestException("Malformed cursor");
+    }
+
+    public String encode() {
+        if (id == null) {
+            throw new IllegalStateException("A start cursor has no encoded form");
+        }
+        String raw = order == TaskSortOrder.ID
+                ? order + SEPARATOR + id
+                : order + SEPARATOR + (dueDate != null ? dueDate : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TaskSortOrder getOrder() { return order; }
+
+    public LocalDate getDueDate() { return dueDate; }
+
+    public Long getId() { return id; }
+
+    public boolean isStart() {
+        return id == null;
+    }
+
+    /**
+     * True when the cursor points into the trailing segment of tasks without a due date.
+     */
+    public boolean isInUndatedSegment() {
+        return order == TaskSortOrder.DUE_DATE && id != null && dueDate == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskCursor)) return false;
+        TaskCursor that = (TaskCursor) o;
+        return order == that.order && Objects.equals(dueDate, that.dueDate) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, dueDate, id);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskCursor{order=" + order + ", dueDate=" + dueDate + ", id=" + id + '}';
+    }
+}
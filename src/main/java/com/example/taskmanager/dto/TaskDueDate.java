@@ -0,0 +1,9 @@
+package com.example.taskmanager.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Id and due date of a task; all the due-date index needs from a row.
+ */
+public record TaskDueDate(Long id, LocalDate dueDate) {
+}
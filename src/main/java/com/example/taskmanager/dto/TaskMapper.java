@@ -25,6 +25,21 @@ public class TaskMapper {
         );
     }
 
+    public TaskResponseDTO toResponse(TaskSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        TaskResponseDTO response = new TaskResponseDTO();
+        response.setId(summary.id());
+        response.setTitle(summary.title());
+        response.setStatus(summary.status());
+        response.setDueDate(summary.dueDate());
+        response.setCreatedAt(summary.createdAt());
+        response.setUpdatedAt(summary.updatedAt());
+        return response;
+    }
+
     public Task toEntity(TaskDTO dto) {
         if (dto == null) {
             return null;
@@ -1,6 +1,7 @@
 package com.example.taskmanager.dto;
 
 import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -11,6 +12,8 @@ import java.time.LocalDateTime;
 public class TaskResponseDTO {
     private Long id;
     private String title;
+    // Omitted from summary listings, which do not load it
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String description;
     private TaskStatus status;
     private LocalDate dueDate;
@@ -0,0 +1,12 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Orderings supported by the cursor-paginated task listing.
+ * Each ordering is backed by an index so that every page is an index range scan.
+ */
+public enum TaskSortOrder {
+    /** Ascending by id. */
+    ID,
+    /** Ascending by due date, then id; tasks without a due date come last. */
+    DUE_DATE
+}
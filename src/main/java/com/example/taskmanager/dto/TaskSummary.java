@@ -0,0 +1,25 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task for list views; leaves out the description.
+ * Usually built directly from query results, so no entity is created or tracked.
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        TaskStatus status,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static TaskSummary of(Task task) {
+        return new TaskSummary(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate(),
+                task.getCreatedAt(), task.getUpdatedAt());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.model.Task;
+
+import java.util.Objects;
+
+/**
+ * Published by the service layer whenever a task is created, updated or deleted.
+ * Listeners that maintain derived state (search index, caches, ...) should react
+ * after the surrounding transaction commits.
+ */
+public final class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long taskId;
+    private final Task task;
+
+    private TaskChangedEvent(Type type, Long taskId, Task task) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(Task task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task);
+    }
+
+    /**
+     * Update applied without loading the task; listeners needing its state must read it.
+     */
+    public static TaskChangedEvent updated(Long taskId) {
+        return new TaskChangedEvent(Type.UPDATED, taskId, null);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null);
+    }
+
+    public Type getType() { return type; }
+
+    public Long getTaskId() { return taskId; }
+
+    /**
+     * The task as written; null for {@link Type#DELETED} and for updates that
+     * were applied without loading the task.
+     */
+    public Task getTask() { return task; }
+
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{type=" + type + ", taskId=" + taskId + '}';
+    }
+}
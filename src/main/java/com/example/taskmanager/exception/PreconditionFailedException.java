@@ -0,0 +1,12 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Exception thrown when a conditional request ({@code If-Match}) names a version
+ * of a resource that is no longer current.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -4,8 +4,15 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 /**
@@ -13,14 +20,33 @@ import java.util.Objects;
  * Uses JPA for persistence and Jakarta validation for input constraints.
  */
 @Entity
+@EntityListeners(TaskClockListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Table(name = "tasks", indexes = {
-    @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_due_date", columnList = "due_date")
+    @Index(name = "idx_status_id", columnList = "status, id"),
+    @Index(name = "idx_due_date_id", columnList = "due_date, id"),
+    @Index(name = "idx_status_due_date", columnList = "status, due_date, id"),
+    @Index(name = "idx_updated_at_id", columnList = "updated_at, id")
 })
 public class Task {
+
+    /**
+     * Ids are drawn from a pooled sequence in blocks of this size, which keeps
+     * JDBC insert batching enabled (IDENTITY columns force row-by-row inserts).
+     * With sharding enabled {@link TaskIdGenerator} takes ids from the sharding scheme instead.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /** Second-level cache region holding tasks by id. */
+    public static final String CACHE_REGION = "tasks";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "task_seq")
+    @GenericGenerator(name = "task_seq", type = TaskIdGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "task_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE)
+    })
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -47,6 +73,21 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock counter, bumped on every change. Backs the task's ETag.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Source of timestamps and of today's date; {@link TaskClockListener} replaces the
+     * system clock with the application's once the task is persisted or loaded.
+     */
+    @Transient
+    private Clock clock = Clock.systemDefaultZone();
+
     // Constructors
     public Task() {}
 
@@ -61,10 +102,10 @@ public class Task {
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
-            createdAt = LocalDateTime.now();
+            createdAt = timestamp(clock);
         }
         if (updatedAt == null) {
-            updatedAt = LocalDateTime.now();
+            updatedAt = timestamp(clock);
         }
         if (status == null) {
             status = TaskStatus.TODO;
@@ -73,7 +114,21 @@ public class Task {
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = timestamp(clock);
+    }
+
+    /**
+     * The current time as stored in {@code created_at}, {@code updated_at} and every other
+     * task timestamp. Truncated to the column's microsecond precision, so a loaded entity and
+     * the stored row agree on the timestamp that delta sync tokens compare against. Code that
+     * writes timestamps in bulk statements must use this with the application clock.
+     */
+    public static LocalDateTime timestamp(Clock clock) {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    void useClock(Clock clock) {
+        this.clock = clock;
     }
 
     // Getters and Setters
@@ -133,13 +188,37 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Business methods
+
+    /**
+     * Overdue as of today by the task's clock: the application clock for stored tasks,
+     * the system clock for tasks not yet persisted.
+     */
     public boolean isOverdue() {
-        return dueDate != null && dueDate.isBefore(LocalDate.now());
+        return isOverdue(LocalDate.now(clock));
     }
 
+    public boolean isOverdue(LocalDate today) {
+        return dueDate != null && dueDate.isBefore(today);
+    }
+
+    /**
+     * Due today by the task's clock; see {@link #isOverdue()}.
+     */
     public boolean isDueToday() {
-        return dueDate != null && dueDate.isEqual(LocalDate.now());
+        return isDueToday(LocalDate.now(clock));
+    }
+
+    public boolean isDueToday(LocalDate today) {
+        return dueDate != null && dueDate.isEqual(today);
     }
 
     // equals, hashCode, toString
@@ -0,0 +1,28 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+
+/**
+ * Hands the application {@link Clock} to every task Hibernate persists or loads, so its
+ * timestamps and overdue flags follow {@code app.time-zone} like the rest of the server.
+ * Instantiated by Hibernate through Spring's bean container; runs before the entity's own
+ * callbacks. Falls back to the system clock when the context defines none.
+ */
+public class TaskClockListener {
+
+    private final Clock clock;
+
+    public TaskClockListener(ObjectProvider<Clock> clock) {
+        this.clock = clock.getIfAvailable(Clock::systemDefaultZone);
+    }
+
+    @PrePersist
+    @PostLoad
+    void attach(Task task) {
+        task.useClock(clock);
+    }
+}
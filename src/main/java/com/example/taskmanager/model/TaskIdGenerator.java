@@ -0,0 +1,40 @@
+package com.example.taskmanager.model;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+import java.util.function.LongSupplier;
+
+/**
+ * Task ids from the pooled {@code task_seq} sequence, unless a {@link LongSupplier} is
+ * registered under {@link #ID_SOURCE} in the Hibernate settings; sharding registers one
+ * whose ids encode the shard they are written to.
+ */
+public class TaskIdGenerator extends SequenceStyleGenerator {
+
+    /** Hibernate setting holding the {@link LongSupplier} that replaces the sequence. */
+    public static final String ID_SOURCE = "taskmanager.id_source";
+
+    private LongSupplier idSource;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        super.configure(type, parameters, serviceRegistry);
+        Object source = serviceRegistry.requireService(ConfigurationService.class).getSettings().get(ID_SOURCE);
+        if (source != null && !(source instanceof LongSupplier)) {
+            throw new MappingException(ID_SOURCE + " must be a " + LongSupplier.class.getName());
+        }
+        this.idSource = (LongSupplier) source;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return idSource != null ? idSource.getAsLong() : super.generate(session, object);
+    }
+}
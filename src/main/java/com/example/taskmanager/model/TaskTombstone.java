@@ -0,0 +1,47 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Marks a task removed from the {@code tasks} table, deleted or archived, so delta sync
+ * clients learn about it. One row per task id, kept for {@code app.sync.tombstone-retention}.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+    @Index(name = "idx_deleted_at_task_id", columnList = "deleted_at, task_id")
+})
+public class TaskTombstone {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone() {}
+
+    public Long getTaskId() { return taskId; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskTombstone)) return false;
+        TaskTombstone that = (TaskTombstone) o;
+        return taskId != null && Objects.equals(taskId, that.taskId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskId);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskTombstone{taskId=" + taskId + ", deletedAt=" + deletedAt + '}';
+    }
+}
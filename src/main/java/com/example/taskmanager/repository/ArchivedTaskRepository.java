@@ -0,0 +1,41 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.ArchivedTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for tasks moved to the {@code tasks_archive} table.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Keyset page of archived tasks with an id above {@code afterId}, in id order.
+     */
+    @Query("SELECT new com.example.taskmanager.dto.TaskSummary("
+            + "a.id, a.title, a.status, a.dueDate, a.createdAt, a.updatedAt) FROM ArchivedTask a"
+            + " WHERE a.id > :afterId ORDER BY a.id")
+    List<TaskSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Copies the given rows from {@code tasks} into the archive in one INSERT ... SELECT,
+     * without loading them. Callers should bound the number of ids per call.
+     *
+     * @return number of rows copied
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedTask (id, title, description, status, dueDate, createdAt, updatedAt, version, archivedAt)"
+            + " SELECT t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt, t.version, :archivedAt"
+            + " FROM Task t WHERE t.id IN :ids")
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Row selection for set-based operations and filtered listings. All criteria are optional and
+ * combined with AND; due-date bounds are inclusive, and the title match is a case-insensitive
+ * substring match.
+ */
+public final class TaskFilter {
+
+    private final Collection<Long> ids;
+    private final TaskStatus status;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+    private final String titleContains;
+
+    public TaskFilter(Collection<Long> ids, TaskStatus status, LocalDate dueFrom, LocalDate dueTo) {
+        this(ids, status, dueFrom, dueTo, null);
+    }
+
+    private TaskFilter(Collection<Long> ids, TaskStatus status, LocalDate dueFrom, LocalDate dueTo,
+                       String titleContains) {
+        this.ids = ids != null ? List.copyOf(ids) : null;
+        this.status = status;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.titleContains = titleContains;
+    }
+
+    /**
+     * Same criteria restricted to the given ids; used to process id lists in chunks.
+     */
+    public TaskFilter withIds(Collection<Long> chunk) {
+        return new TaskFilter(chunk, status, dueFrom, dueTo, titleContains);
+    }
+
+    /**
+     * Same criteria restricted to tasks in {@code newStatus}.
+     */
+    public TaskFilter withStatus(TaskStatus newStatus) {
+        return new TaskFilter(ids, newStatus, dueFrom, dueTo, titleContains);
+    }
+
+    /**
+     * Same criteria with the given inclusive due-date bounds; a null bound is open.
+     */
+    public TaskFilter withDueRange(LocalDate from, LocalDate to) {
+        return new TaskFilter(ids, status, from, to, titleContains);
+    }
+
+    /**
+     * Same criteria restricted to titles containing {@code text}; blank text adds no criterion.
+     */
+    public TaskFilter withTitleContaining(String text) {
+        return new TaskFilter(ids, status, dueFrom, dueTo, text == null || text.isBlank() ? null : text.strip());
+    }
+
+    public Collection<Long> getIds() { return ids; }
+
+    public TaskStatus getStatus() { return status; }
+
+    public LocalDate getDueFrom() { return dueFrom; }
+
+    public LocalDate getDueTo() { return dueTo; }
+
+    public String getTitleContains() { return titleContains; }
+
+    public boolean hasIds() {
+        return ids != null;
+    }
+
+    public boolean hasDueBounds() {
+        return dueFrom != null || dueTo != null;
+    }
+
+    /**
+     * True when no criterion is set, i.e. the filter would match the whole table.
+     */
+    public boolean isUnrestricted() {
+        return ids == null && status == null && dueFrom == null && dueTo == null && titleContains == null;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskFilter{ids=" + (ids != null ? ids.size() + " ids" : "any") +
+                ", status=" + status +
+                ", dueFrom=" + dueFrom +
+                ", dueTo=" + dueTo +
+                ", titleContains=" + titleContains +
+                '}';
+    }
+}
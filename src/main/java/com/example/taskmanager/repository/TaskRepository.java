@@ -1,56 +1,202 @@
-package com.example.taskmanager.repository;
-
-import com.example.taskmanager.model.Task;
-import com.example.taskmanager.model.TaskStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
-
-/**
- * Repository interface for Task entity.
- * Provides custom query methods using Spring Data JPA conventions.
- */
-@Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-
-    /**
-     * Find all tasks with a specific status.
-     */
-    List<Task> findByStatus(TaskStatus status);
-
-    /**
-     * Find tasks due before a certain date and not in DONE status.
-     */
-    List<Task> findByDueDateBeforeAndStatusNot(LocalDate date, TaskStatus status);
-
-    /**
-     * Find tasks due on a specific date.
-     */
-    List<Task> findByDueDate(LocalDate dueDate);
-
-    /**
-     * Find tasks by title containing search term (case-insensitive).
-     */
-    List<Task> findByTitleContainingIgnoreCase(String searchTerm);
-
-    /**
-     * Find all tasks ordered by due date (null dates last).
-     */
-    @Query("SELECT t FROM Task t ORDER BY CASE WHEN t.dueDate IS NULL THEN 1 ELSE 0 END, t.dueDate ASC")
-    List<Task> findAllOrderedByDueDate();
-
-    /**
-     * Count tasks by status.
-     */
-    long countByStatus(TaskStatus status);
-
-    /**
-     * Check if a task with the given title exists (case-insensitive).
-     */
-    boolean existsByTitleIgnoreCase(String title);
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.StatusCount;
+import com.example.taskmanager.dto.TaskDueDate;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for Task entity.
+ * Provides custom query methods using Spring Data JPA conventions.
+ */
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    /** JDBC fetch size used when streaming the whole table. */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /** Query cache region for the cacheable lookups below. */
+    String QUERY_CACHE_REGION = "task-queries";
+
+    /** Constructor expression shared by the {@link TaskSummary} queries. */
+    String SELECT_SUMMARY = "SELECT new com.example.taskmanager.dto.TaskSummary("
+            + "t.id, t.title, t.status, t.dueDate, t.createdAt, t.updatedAt) FROM Task t";
+
+    /**
+     * Find all tasks with a specific status.
+     */
+    List<Task> findByStatus(TaskStatus status);
+
+    /**
+     * List all tasks as summaries, in id order.
+     */
+    @Query(SELECT_SUMMARY + " ORDER BY t.id")
+    List<TaskSummary> findAllSummaries();
+
+    /**
+     * List tasks with a specific status as summaries, in id order. Backs the status-filtered
+     * listing; results are served from the query cache until the tasks table is next written.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query(SELECT_SUMMARY + " WHERE t.status = :status ORDER BY t.id")
+    List<TaskSummary> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    /**
+     * List tasks due before a date whose status is one of {@code statuses}, as summaries.
+     * Statuses are listed positively rather than as {@code status <> DONE} so the predicate
+     * is a set of range scans on {@code idx_status_due_date}.
+     */
+    @Query(SELECT_SUMMARY + " WHERE t.status IN :statuses AND t.dueDate < :date ORDER BY t.dueDate, t.id")
+    List<TaskSummary> findOverdueSummaries(@Param("date") LocalDate date,
+                                           @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Find tasks due before a certain date and not in DONE status.
+     */
+    List<Task> findByDueDateBeforeAndStatusNot(LocalDate date, TaskStatus status);
+
+    /**
+     * Find tasks due on a specific date.
+     */
+    List<Task> findByDueDate(LocalDate dueDate);
+
+    /**
+     * Find tasks by title containing search term (case-insensitive).
+     */
+    List<Task> findByTitleContainingIgnoreCase(String searchTerm);
+
+    /**
+     * Find all tasks ordered by due date (null dates last), ties broken by id.
+     * Sorting on a CASE expression cannot use an index, so the two segments are read
+     * separately; each is a range scan on {@code idx_due_date_id} that comes back already
+     * in order. For large tables page through the same ordering with {@link #findPage}
+     * and {@link com.example.taskmanager.dto.TaskSortOrder#DUE_DATE}.
+     */
+    default List<Task> findAllOrderedByDueDate() {
+        List<Task> ordered = new ArrayList<>(findByDueDateIsNotNullOrderByDueDateAscIdAsc());
+        ordered.addAll(findUndatedOrderedById());
+        return ordered;
+    }
+
+    /**
+     * Dated segment of {@link #findAllOrderedByDueDate()}.
+     */
+    List<Task> findByDueDateIsNotNullOrderByDueDateAscIdAsc();
+
+    /**
+     * Undated segment of {@link #findAllOrderedByDueDate()}. Ordering on the constant
+     * due_date column as well lets the planner see that the index already yields this order.
+     */
+    @Query("SELECT t FROM Task t WHERE t.dueDate IS NULL ORDER BY t.dueDate, t.id")
+    List<Task> findUndatedOrderedById();
+
+    /**
+     * Stream all tasks in id order through a forward-only JDBC cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        // A full scan would only churn the second-level cache
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllBy();
+
+    /**
+     * Stream id and due date of the dated tasks in the given statuses, ordered by due date,
+     * then id: one range scan per status on {@code idx_status_due_date}.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.example.taskmanager.dto.TaskDueDate(t.id, t.dueDate) FROM Task t"
+            + " WHERE t.status IN :statuses AND t.dueDate IS NOT NULL ORDER BY t.dueDate, t.id")
+    Stream<TaskDueDate> streamDueDates(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Ids of tasks in a status last updated before a time, in id order, locked until the
+     * transaction ends so they cannot change while being archived. Reads {@code idx_status_id}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.updatedAt < :before ORDER BY t.id")
+    List<Long> lockIdsUpdatedBefore(@Param("status") TaskStatus status,
+                                    @Param("before") LocalDateTime before,
+                                    Limit limit);
+
+    /**
+     * Keyset page of tasks changed after ({@code afterTime}, {@code afterId}) up to {@code until},
+     * in (updatedAt, id) order. Reads {@code idx_updated_at_id}.
+     */
+    @Query("SELECT t FROM Task t WHERE (t.updatedAt > :afterTime"
+            + " OR (t.updatedAt = :afterTime AND t.id > :afterId)) AND t.updatedAt <= :until"
+            + " ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                @Param("afterId") long afterId,
+                                @Param("until") LocalDateTime until,
+                                Limit limit);
+
+    /**
+     * Those of the given ids that belong to a task, locked until the transaction ends so the
+     * tasks cannot be deleted concurrently. Callers should bound the number of ids per call.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads only the status column of one task.
+     */
+    @Query("SELECT t.status FROM Task t WHERE t.id = :id")
+    Optional<TaskStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * Number of tasks per status in one pass; statuses without tasks are absent. Backs the
+     * status counters' reconciliation, served from the query cache like
+     * {@link #findSummariesByStatus} while the table is unchanged.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT new com.example.taskmanager.dto.StatusCount(t.status, COUNT(t)) FROM Task t GROUP BY t.status")
+    List<StatusCount> countGroupedByStatus();
+
+    /**
+     * Reads only the version column, enough to answer a conditional GET.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Count tasks by status.
+     */
+    long countByStatus(TaskStatus status);
+
+    /**
+     * Check if a task with the given title exists (case-insensitive).
+     */
+    boolean existsByTitleIgnoreCase(String title);
 }
\ No newline at end of file
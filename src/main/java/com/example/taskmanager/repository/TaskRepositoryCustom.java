@@ -0,0 +1,101 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.DueCategory;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom query fragment for queries that are built dynamically
+ * and cannot be expressed as derived query methods, and for the single-statement
+ * writes, which keep the second-level cache entries of untouched tasks.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Keyset pagination: returns up to {@code limit} tasks that sort after {@code after},
+     * optionally restricted to a status. Never issues OFFSET or COUNT queries.
+     */
+    List<TaskSummary> findPage(TaskStatus status, TaskCursor after, int limit);
+
+    /**
+     * Keyset pagination over the tasks matching {@code filter}. With due-date bounds the
+     * undated segment of {@link com.example.taskmanager.dto.TaskSortOrder#DUE_DATE} is skipped.
+     */
+    List<TaskSummary> findFilteredPage(TaskFilter filter, TaskCursor after, int limit);
+
+    /**
+     * Number of tasks matching {@code filter} per status, in one grouped query;
+     * statuses without tasks are absent.
+     */
+    Map<TaskStatus, Long> countByStatus(TaskFilter filter);
+
+    /**
+     * Number of tasks matching {@code filter} per due category relative to {@code today},
+     * in one grouped query; categories without tasks are absent.
+     */
+    Map<DueCategory, Long> countByDueCategory(TaskFilter filter, LocalDate today);
+
+    /**
+     * Set-based status transition: a single UPDATE over the given ids, skipping rows that
+     * already have the target status. No entities are loaded; the version of every updated
+     * row is incremented. Callers should bound the number of ids per call.
+     *
+     * @return number of rows updated
+     */
+    int updateStatus(Collection<Long> ids, TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * The first {@code limit} rows after {@code afterId} (from the start when null) that
+     * {@link #updateStatus} would move to {@code status}, in id order, locked until the
+     * transaction ends; updating exactly these ids tells the caller which tasks changed and
+     * from which status. Walking the matches in such chunks keeps each transaction small.
+     */
+    List<TaskSummary> lockForStatusChange(TaskFilter filter, TaskStatus status, Long afterId, int limit);
+
+    /**
+     * Single-row partial update: one UPDATE that sets only the given attributes
+     * (plus updatedAt, and the incremented version) without reading the row first.
+     * A null value clears the column.
+     *
+     * @param changes new values keyed by {@code Task} attribute name
+     * @param expectedVersion when not null, the row is only updated if it is still at this version
+     * @return number of rows updated; 0 when no task has the id or the version did not match
+     */
+    int patch(Long id, Map<String, Object> changes, LocalDateTime updatedAt, Long expectedVersion);
+
+    /**
+     * Delete a task in a single statement without loading it.
+     *
+     * @return number of rows deleted; 0 when no task has the id
+     */
+    int deleteTaskById(Long id);
+
+    /**
+     * Delete a task only if it is still at the given version.
+     *
+     * @return number of rows deleted; 0 when the task is missing or has changed
+     */
+    int deleteTaskByIdAndVersion(Long id, Long version);
+
+    /**
+     * Delete all tasks with the given ids in a single statement without loading them.
+     * Callers should bound the number of ids per call.
+     *
+     * @return number of rows deleted
+     */
+    int deleteTasksByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads tasks by id, in the order given. Tasks in the second-level cache are taken from
+     * there; the rest are read with batched IN queries. Ids without a task are skipped.
+     */
+    List<Task> findAllInOrder(long[] ids);
+}
@@ -0,0 +1,349 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.DueCategory;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Criteria API implementation of {@link TaskRepositoryCustom}; the writes are native statements
+ * (see {@link #executeOnRows}).
+ */
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /** Ids per IN query when loading tasks the second-level cache does not hold. */
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    /** The table behind {@code Task}: the query space of the cached task queries. */
+    private static final String[] TASKS_SPACE = {"tasks"};
+
+    /**
+     * Query space of the native writes. No entity maps it, so Hibernate's bulk cleanup, which
+     * would evict every cached task, finds nothing to evict; {@link #executeOnRows} does that
+     * per row instead.
+     */
+    private static final String ROW_WRITES_SPACE = "tasks_by_id";
+
+    /** Column and bind type of each attribute {@link #patch} may set. */
+    private static final Map<String, PatchColumn> PATCH_COLUMNS = Map.of(
+            "title", new PatchColumn("title", String.class),
+            "description", new PatchColumn("description", String.class),
+            "status", new PatchColumn("status", String.class),
+            "dueDate", new PatchColumn("due_date", LocalDate.class));
+
+    private final EntityManager entityManager;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskSummary> findPage(TaskStatus status, TaskCursor after, int limit) {
+        return findFilteredPage(new TaskFilter(null, status, null, null), after, limit);
+    }
+
+    @Override
+    public List<TaskSummary> findFilteredPage(TaskFilter filter, TaskCursor after, int limit) {
+        if (after.getOrder() == TaskSortOrder.ID) {
+            return findPageById(filter, after.getId(), limit);
+        }
+
+        // Due-date ordering with nulls last is served as two index range scans:
+        // the dated segment on (due_date, id), then the undated segment on id.
+        List<TaskSummary> page = new ArrayList<>(limit);
+        Long undatedAfterId = after.getId();
+        if (!after.isInUndatedSegment()) {
+            page.addAll(findDatedPage(filter, after.getDueDate(), after.getId(), limit));
+            undatedAfterId = null;
+        }
+        if (page.size() < limit && !filter.hasDueBounds()) {
+            page.addAll(findUndatedPage(filter, undatedAfterId, limit - page.size()));
+        }
+        return page;
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Task> task = query.from(Task.class);
+        Path<TaskStatus> status = task.get("status");
+
+        List<Predicate> where = new ArrayList<>();
+        addCriteria(cb, task, filter, where);
+        query.multiselect(status, cb.count(task)).where(where.toArray(Predicate[]::new)).groupBy(status);
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            counts.put((TaskStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<DueCategory, Long> countByDueCategory(TaskFilter filter, LocalDate today) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Task> task = query.from(Task.class);
+        Path<LocalDate> dueDate = task.get("dueDate");
+
+        Expression<String> category = cb.<String>selectCase()
+                .when(cb.isNull(dueDate), DueCategory.NONE.name())
+                .when(cb.lessThan(dueDate, today), DueCategory.OVERDUE.name())
+                .when(cb.equal(dueDate, today), DueCategory.TODAY.name())
+                .otherwise(DueCategory.UPCOMING.name());
+
+        List<Predicate> where = new ArrayList<>();
+        addCriteria(cb, task, filter, where);
+        query.multiselect(category, cb.count(task)).where(where.toArray(Predicate[]::new)).groupBy(category);
+
+        Map<DueCategory, Long> counts = new EnumMap<>(DueCategory.class);
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            counts.put(DueCategory.valueOf((String) row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Task> findAllInOrder(long[] ids) {
+        List<Task> tasks = entityManager.unwrap(Session.class)
+                .byMultipleIds(Task.class)
+                .enableOrderedReturn(true)
+                .withBatchSize(LOAD_BATCH_SIZE)
+                .multiLoad(Arrays.stream(ids).boxed().toList());
+        return tasks.stream().filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> ids, TaskStatus status, LocalDateTime updatedAt) {
+        return executeOnRows("UPDATE tasks SET status = :status, updated_at = :updatedAt, version = version + 1"
+                + " WHERE id IN (:ids) AND status <> :status", ids, statement -> statement
+                .setParameter("status", status.name())
+                .setParameter("updatedAt", updatedAt));
+    }
+
+    @Override
+    public List<TaskSummary> lockForStatusChange(TaskFilter filter, TaskStatus status, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.notEqual(task.get("status"), status));
+        addCriteria(cb, task, filter, where);
+        if (afterId != null) {
+            where.add(cb.greaterThan(id, afterId));
+        }
+
+        query.select(summaryOf(cb, task)).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(id));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int patch(Long id, Map<String, Object> changes, LocalDateTime updatedAt, Long expectedVersion) {
+        String set = changes.keySet().stream()
+                .map(attribute -> PatchColumn.of(attribute).column() + " = :" + attribute)
+                .collect(Collectors.joining(", "));
+        String sql = "UPDATE tasks SET " + set + ", updated_at = :updatedAt, version = version + 1 WHERE id IN (:ids)"
+                + (expectedVersion != null ? " AND version = :version" : "");
+
+        return executeOnRows(sql, List.of(id), statement -> {
+            changes.forEach((attribute, value) -> PatchColumn.of(attribute).bind(statement, attribute, value));
+            statement.setParameter("updatedAt", updatedAt);
+            if (expectedVersion != null) {
+                statement.setParameter("version", expectedVersion);
+            }
+        });
+    }
+
+    @Override
+    public int deleteTaskById(Long id) {
+        return deleteTasksByIdIn(List.of(id));
+    }
+
+    @Override
+    public int deleteTaskByIdAndVersion(Long id, Long version) {
+        return executeOnRows("DELETE FROM tasks WHERE id IN (:ids) AND version = :version", List.of(id),
+                statement -> statement.setParameter("version", version));
+    }
+
+    @Override
+    public int deleteTasksByIdIn(Collection<Long> ids) {
+        return executeOnRows("DELETE FROM tasks WHERE id IN (:ids)", ids, statement -> { });
+    }
+
+    /**
+     * Runs a native write restricted to {@code :ids} with the contract of
+     * {@code @Modifying(flushAutomatically = true, clearAutomatically = true)}. Instead of
+     * Hibernate's bulk cleanup, which evicts the whole task region, only these ids are evicted:
+     * before the statement, so this transaction does not read them back from the cache, and
+     * again once it completes, dropping any copy a concurrent reader put back meanwhile.
+     * The cached task queries are invalidated as for any other write to the table.
+     */
+    private int executeOnRows(String sql, Collection<Long> ids, Consumer<NativeQuery<?>> parameters) {
+        entityManager.flush();
+        List<Long> rows = List.copyOf(ids);
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        TimestampsCache timestamps = session.getFactory().getCache().getTimestampsCache();
+        timestamps.preInvalidate(TASKS_SPACE, session);
+        session.getActionQueue().registerProcess((success, completed) -> {
+            timestamps.invalidate(TASKS_SPACE, completed);
+            evict(rows);
+        });
+        evict(rows);
+
+        NativeQuery<?> statement = session.createNativeQuery(sql)
+                .addSynchronizedQuerySpace(ROW_WRITES_SPACE)
+                .setParameterList("ids", rows);
+        parameters.accept(statement);
+        int updated = statement.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private void evict(List<Long> ids) {
+        ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(Task.class, id));
+    }
+
+    private List<TaskSummary> findPageById(TaskFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        addCriteria(cb, task, filter, where);
+        if (afterId != null) {
+            where.add(cb.greaterThan(id, afterId));
+        }
+
+        query.select(summaryOf(cb, task)).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<TaskSummary> findDatedPage(TaskFilter filter, LocalDate afterDueDate, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Path<LocalDate> dueDate = task.get("dueDate");
+        Path<Long> id = task.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        addCriteria(cb, task, filter, where);
+        where.add(cb.isNotNull(dueDate));
+        if (afterId != null) {
+            where.add(cb.or(
+                    cb.greaterThan(dueDate, afterDueDate),
+                    cb.and(cb.equal(dueDate, afterDueDate), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(summaryOf(cb, task)).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(dueDate), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<TaskSummary> findUndatedPage(TaskFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Path<Long> id = task.get("id");
+
+        Path<LocalDate> dueDate = task.get("dueDate");
+
+        List<Predicate> where = new ArrayList<>();
+        addCriteria(cb, task, filter, where);
+        where.add(cb.isNull(dueDate));
+        if (afterId != null) {
+            where.add(cb.greaterThan(id, afterId));
+        }
+
+        // Ordering on the constant due_date too lets the planner use idx_due_date_id's order
+        query.select(summaryOf(cb, task)).where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(dueDate), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Constructor expression, so page rows never enter the persistence context.
+     */
+    private static CompoundSelection<TaskSummary> summaryOf(CriteriaBuilder cb, Root<Task> task) {
+        return cb.construct(TaskSummary.class,
+                task.get("id"), task.get("title"), task.get("status"),
+                task.get("dueDate"), task.get("createdAt"), task.get("updatedAt"));
+    }
+
+    private static void addCriteria(CriteriaBuilder cb, Root<Task> task, TaskFilter filter, List<Predicate> where) {
+        Path<LocalDate> dueDate = task.get("dueDate");
+        if (filter.hasIds()) {
+            where.add(task.get("id").in(filter.getIds()));
+        }
+        if (filter.getStatus() != null) {
+            where.add(cb.equal(task.get("status"), filter.getStatus()));
+        }
+        if (filter.getDueFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(dueDate, filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            where.add(cb.lessThanOrEqualTo(dueDate, filter.getDueTo()));
+        }
+        if (filter.getTitleContains() != null) {
+            where.add(cb.like(cb.lower(task.get("title")),
+                    "%" + escapeLike(filter.getTitleContains().toLowerCase(Locale.ROOT)) + "%", '\\'));
+        }
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record PatchColumn(String column, Class<?> type) {
+
+        static PatchColumn of(String attribute) {
+            PatchColumn column = PATCH_COLUMNS.get(attribute);
+            if (column == null) {
+                throw new IllegalArgumentException("Task attribute cannot be patched: " + attribute);
+            }
+            return column;
+        }
+
+        /** Binds with an explicit type, so a null that clears the column binds too. */
+        void bind(NativeQuery<?> statement, String parameter, Object value) {
+            bindAs(statement, parameter, value instanceof Enum<?> constant ? constant.name() : value, type);
+        }
+
+        private static <T> void bindAs(NativeQuery<?> statement, String parameter, Object value, Class<T> type) {
+            statement.setParameter(parameter, type.cast(value), type);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the tombstones of tasks removed from the {@code tasks} table.
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Writes a tombstone for each of the given tasks that still exists, in one INSERT ... SELECT.
+     * Call it in the transaction that deletes them, before the delete. Pass a
+     * {@link com.example.taskmanager.model.Task#timestamp(java.time.Clock)} from the application
+     * clock as {@code deletedAt}, so tombstones and {@code updatedAt} sort on one timeline.
+     *
+     * @return number of tombstones written
+     */
+    default int recordDeletions(Collection<Long> ids, LocalDateTime deletedAt) {
+        return copyIdsFromTasks(ids, deletedAt);
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO TaskTombstone (taskId, deletedAt) SELECT t.id, :deletedAt FROM Task t WHERE t.id IN :ids")
+    int copyIdsFromTasks(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Keyset page of tombstones after ({@code afterTime}, {@code afterId}) up to {@code until},
+     * in (deletedAt, taskId) order.
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE (t.deletedAt > :afterTime"
+            + " OR (t.deletedAt = :afterTime AND t.taskId > :afterId)) AND t.deletedAt <= :until"
+            + " ORDER BY t.deletedAt, t.taskId")
+    List<TaskTombstone> findAfter(@Param("afterTime") LocalDateTime afterTime,
+                                  @Param("afterId") long afterId,
+                                  @Param("until") LocalDateTime until,
+                                  Limit limit);
+
+    /**
+     * Drops tombstones written before {@code cutoff} in a single statement.
+     *
+     * @return number of tombstones removed
+     */
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
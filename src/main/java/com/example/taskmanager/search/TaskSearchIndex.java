@@ -0,0 +1,187 @@
+package com.example.taskmanager.search;
+
+import com.example.taskmanager.model.Task;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Inverted index over task title and description.
+ *
+ * <p>The database stays the source of truth: the index only stores task ids and is
+ * rebuilt from the tasks table at startup, then kept current by
+ * {@link TaskSearchIndexSynchronizer}. Writes are buffered in the {@link IndexWriter}
+ * and become visible to the next search, which reopens the near-real-time reader
+ * only if something changed since the last one.
+ */
+@Component
+public class TaskSearchIndex implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+
+    /** Title matches count double relative to description matches. */
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(FIELD_TITLE, 2.0f, FIELD_DESCRIPTION, 1.0f);
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * @param indexPath directory for a memory-mapped on-disk index; blank keeps the index on the heap
+     */
+    public TaskSearchIndex(@Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : new MMapDirectory(Path.of(indexPath));
+        this.analyzer = new EnglishAnalyzer();
+        // Always start empty; the synchronizer repopulates from the database
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("Task search index opened ({})", directory.getClass().getSimpleName());
+    }
+
+    /**
+     * Adds the task or replaces its previous document.
+     */
+    public void index(Task task) {
+        try {
+            writer.updateDocument(idTerm(task.getId()), toDocument(task));
+            dirty.set(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to index task " + task.getId(), ex);
+        }
+    }
+
+    public void remove(Long taskId) {
+        try {
+            writer.deleteDocuments(idTerm(taskId));
+            dirty.set(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to remove task " + taskId + " from index", ex);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+            dirty.set(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to clear task index", ex);
+        }
+    }
+
+    /**
+     * Runs a user query against title and description.
+     * Supports the simple query syntax: quoted phrases, {@code -exclude}, {@code prefix*}
+     * and {@code a | b}. Terms are combined with AND by default.
+     *
+     * @return matching task ids, best match first
+     */
+    public List<Long> search(String queryText, int limit) {
+        try {
+            refreshIfDirty();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(parse(queryText), limit);
+                List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    Document doc = searcher.storedFields().document(hit.doc, Set.of(FIELD_ID));
+                    ids.add(Long.valueOf(doc.get(FIELD_ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Task search failed", ex);
+        }
+    }
+
+    /**
+     * Number of documents visible to searches.
+     */
+    public int size() {
+        try {
+            refreshIfDirty();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read task index", ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void refreshIfDirty() throws IOException {
+        if (dirty.compareAndSet(true, false)) {
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    private Query parse(String queryText) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(queryText);
+    }
+
+    private static Term idTerm(Long taskId) {
+        return new Term(FIELD_ID, String.valueOf(taskId));
+    }
+
+    private static Document toDocument(Task task) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, String.valueOf(task.getId()), Field.Store.YES));
+        doc.add(new TextField(FIELD_TITLE, task.getTitle(), Field.Store.NO));
+        if (task.getDescription() != null) {
+            doc.add(new TextField(FIELD_DESCRIPTION, task.getDescription(), Field.Store.NO));
+        }
+        return doc;
+    }
+}
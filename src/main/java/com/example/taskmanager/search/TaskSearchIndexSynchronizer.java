@@ -0,0 +1,89 @@
+package com.example.taskmanager.search;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link TaskSearchIndex} in line with the tasks table: a full rebuild when the
+ * application starts, then incremental updates for every committed change.
+ */
+@Component
+public class TaskSearchIndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndexSynchronizer.class);
+
+    private final TaskSearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TaskShards shards;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskSearchIndexSynchronizer(TaskSearchIndex searchIndex,
+                                       TaskRepository taskRepository,
+                                       EntityManager entityManager,
+                                       TaskShards shards,
+                                       PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.shards = shards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Streams the tasks of one shard after another into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        searchIndex.clear();
+        long indexed = readOnlyTransaction.execute(status -> shards.queryInTurn(() -> {
+            long count = 0;
+            try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+                for (Task task : (Iterable<Task>) tasks::iterator) {
+                    searchIndex.index(task);
+                    entityManager.detach(task);
+                    count++;
+                }
+            }
+            return count;
+        })).stream().mapToLong(Long::longValue).sum();
+        log.info("Indexed {} tasks for search in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Runs only once the change is committed, so rolled-back writes never reach the index.
+     * A failure here is logged rather than thrown: the database write has already succeeded
+     * and the rebuild at the next startup repairs the index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            if (event.getType() == TaskChangedEvent.Type.DELETED) {
+                searchIndex.remove(event.getTaskId());
+            } else if (event.getTask() != null) {
+                searchIndex.index(event.getTask());
+            } else {
+                // Written without being loaded (e.g. a merge patch), so read back the committed row
+                taskRepository.findById(event.getTaskId())
+                        .ifPresentOrElse(searchIndex::index, () -> searchIndex.remove(event.getTaskId()));
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to apply {} to search index", event, ex);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.CacheStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads Hibernate's second-level cache statistics.
+ * Counters are only collected when {@code app.cache.statistics} is on (the default).
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public CacheStatistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return CacheStatistics.disabled();
+        }
+
+        List<CacheStatistics.Region> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> {
+                    CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+                    return CacheStatistics.Region.of(name, region.getHitCount(), region.getMissCount(),
+                            region.getPutCount(), region.getElementCountInMemory());
+                })
+                .toList();
+        return new CacheStatistics(true, regions);
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskDueDate;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of open tasks by due date, so overdue and due-today lookups never query
+ * the tasks table. DONE tasks and tasks without a due date are not indexed.
+ * <p>
+ * The index is an immutable snapshot of primitive arrays: the sorted epoch days that have
+ * tasks due, and for each day the sorted ids due on it. Readers use the current snapshot
+ * without locking. Writers are serialized and publish a new snapshot that copies only the
+ * array of days and the one day they change. Entries are keyed by date, not by "overdue",
+ * so nothing has to happen when the day rolls over.
+ * <p>
+ * Kept in line with the tasks table like the search index: rebuilt from one index scan at
+ * startup, then updated by every committed {@link TaskChangedEvent}. Set-based writes that
+ * publish no events report the tasks they moved instead. A rebuild on a schedule picks up
+ * writes the index is never told about (other instances, direct repository or SQL writes)
+ * and repairs any event that failed to apply.
+ */
+@Component
+public class DueDateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DueDateIndex.class);
+
+    private static final Comparator<TaskDueDate> DUE_DATE_ORDER =
+            Comparator.comparing(TaskDueDate::dueDate).thenComparing(TaskDueDate::id);
+
+    private final TaskRepository taskRepository;
+    private final TaskShards shards;
+    private final TransactionTemplate readTransaction;
+    private final Object writeLock = new Object();
+    private volatile Buckets buckets = Buckets.EMPTY;
+
+    public DueDateIndex(TaskRepository taskRepository,
+                        TaskShards shards,
+                        PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.shards = shards;
+        // A fresh transaction: a rebuild can run from an afterCommit callback,
+        // where the finished transaction's resources are still bound. Not read-only, so it
+        // reads the primary even when a (possibly lagging) read replica is configured
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Ids of open tasks due before {@code today}, ordered by due date, then id.
+     */
+    public long[] overdue(LocalDate today) {
+        Buckets current = buckets;
+        int end = Arrays.binarySearch(current.days, today.toEpochDay());
+        if (end < 0) {
+            end = -end - 1;
+        }
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            count += current.ids[i].length;
+        }
+        long[] overdue = new long[count];
+        int offset = 0;
+        for (int i = 0; i < end; i++) {
+            System.arraycopy(current.ids[i], 0, overdue, offset, current.ids[i].length);
+            offset += current.ids[i].length;
+        }
+        return overdue;
+    }
+
+    /**
+     * Ids of open tasks due on {@code day}, in id order.
+     */
+    public long[] dueOn(LocalDate day) {
+        Buckets current = buckets;
+        int i = Arrays.binarySearch(current.days, day.toEpochDay());
+        return i >= 0 ? current.ids[i].clone() : new long[0];
+    }
+
+    /**
+     * Number of indexed tasks.
+     */
+    public int size() {
+        return buckets.size;
+    }
+
+    /**
+     * For a set-based write that moved {@code tasks}, as they were before the write, to
+     * {@code status} without publishing events. Applied as one new snapshot after commit.
+     */
+    public void recordStatusChange(Collection<TaskSummary> tasks, TaskStatus status) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            synchronized (writeLock) {
+                Buckets next = buckets;
+                for (TaskSummary task : tasks) {
+                    next = next.moved(task.id(), status, task.dueDate());
+                }
+                buckets = next;
+            }
+        });
+    }
+
+    /**
+     * Replaces the index with the open, dated tasks read in due-date order. Holds the write
+     * lock while reading, so committed changes arriving meanwhile wait and are applied on top.
+     * Shards are read in parallel into lists and merged; a single database is streamed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.due-date-index.rebuild-interval:PT5M}",
+            initialDelayString = "${app.due-date-index.rebuild-interval:PT5M}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (writeLock) {
+            buckets = readTransaction.execute(status -> {
+                if (shards.isSharded()) {
+                    List<List<TaskDueDate>> perShard = shards.query(() -> {
+                        try (Stream<TaskDueDate> rows = taskRepository.streamDueDates(TaskService.OPEN_STATUSES)) {
+                            return rows.toList();
+                        }
+                    });
+                    return Buckets.build(TaskShards.merge(perShard, DUE_DATE_ORDER).iterator());
+                }
+                try (Stream<TaskDueDate> rows = taskRepository.streamDueDates(TaskService.OPEN_STATUSES)) {
+                    return Buckets.build(rows.iterator());
+                }
+            });
+        }
+        log.info("Indexed {} open tasks by due date in {} ms", buckets.size, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Runs only once the change is committed, so rolled-back writes never reach the index.
+     * A failure here is logged rather than thrown: the database write has already succeeded
+     * and the next scheduled rebuild repairs the index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            if (event.getType() == TaskChangedEvent.Type.DELETED) {
+                remove(event.getTaskId());
+            } else if (event.getTask() != null) {
+                put(event.getTaskId(), event.getTask().getStatus(), event.getTask().getDueDate());
+            } else {
+                // Written without being loaded (e.g. a merge patch), so read back the committed row
+                taskRepository.findById(event.getTaskId()).ifPresentOrElse(
+                        task -> put(task.getId(), task.getStatus(), task.getDueDate()),
+                        () -> remove(event.getTaskId()));
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to apply {} to due-date index", event, ex);
+        }
+    }
+
+    void put(long id, TaskStatus status, LocalDate dueDate) {
+        synchronized (writeLock) {
+            buckets = buckets.moved(id, status, dueDate);
+        }
+    }
+
+    void remove(long id) {
+        synchronized (writeLock) {
+            buckets = buckets.without(id);
+        }
+    }
+
+    /**
+     * Immutable snapshot: {@code ids[i]} holds the sorted ids due on epoch day {@code days[i]};
+     * days are sorted and only present while they have ids.
+     */
+    private static final class Buckets {
+
+        static final Buckets EMPTY = new Buckets(new long[0], new long[0][], 0);
+
+        final long[] days;
+        final long[][] ids;
+        final int size;
+
+        Buckets(long[] days, long[][] ids, int size) {
+            this.days = days;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        /**
+         * Builds from rows ordered by due date, then id.
+         */
+        static Buckets build(Iterator<TaskDueDate> rows) {
+            long[] rowDays = new long[64];
+            long[] rowIds = new long[64];
+            int count = 0;
+            int dayCount = 0;
+            while (rows.hasNext()) {
+                TaskDueDate row = rows.next();
+                if (count == rowIds.length) {
+                    rowDays = Arrays.copyOf(rowDays, count * 2);
+                    rowIds = Arrays.copyOf(rowIds, count * 2);
+                }
+                rowDays[count] = row.dueDate().toEpochDay();
+                rowIds[count] = row.id();
+                if (count == 0 || rowDays[count] != rowDays[count - 1]) {
+                    dayCount++;
+                }
+                count++;
+            }
+
+            long[] days = new long[dayCount];
+            long[][] ids = new long[dayCount][];
+            int from = 0;
+            for (int day = 0; day < dayCount; day++) {
+                int to = from + 1;
+                while (to < count && rowDays[to] == rowDays[from]) {
+                    to++;
+                }
+                days[day] = rowDays[from];
+                ids[day] = Arrays.copyOfRange(rowIds, from, to);
+                from = to;
+            }
+            return new Buckets(days, ids, count);
+        }
+
+        /**
+         * Re-files the id under its due date, or drops it once the task is no longer indexed.
+         */
+        Buckets moved(long id, TaskStatus status, LocalDate dueDate) {
+            Buckets next = without(id);
+            return status != TaskStatus.DONE && dueDate != null ? next.with(id, dueDate.toEpochDay()) : next;
+        }
+
+        Buckets with(long id, long day) {
+            int i = Arrays.binarySearch(days, day);
+            if (i >= 0) {
+                int at = Arrays.binarySearch(ids[i], id);
+                if (at >= 0) {
+                    return this;
+                }
+                long[][] nextIds = ids.clone();
+                nextIds[i] = insert(ids[i], -at - 1, id);
+                return new Buckets(days, nextIds, size + 1);
+            }
+
+            int at = -i - 1;
+            long[][] nextIds = new long[ids.length + 1][];
+            System.arraycopy(ids, 0, nextIds, 0, at);
+            nextIds[at] = new long[] {id};
+            System.arraycopy(ids, at, nextIds, at + 1, ids.length - at);
+            return new Buckets(insert(days, at, day), nextIds, size + 1);
+        }
+
+        /**
+         * Probes every day for the id: the index keeps no reverse mapping, and the number of
+         * distinct due days stays small next to the number of tasks.
+         */
+        Buckets without(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                int at = Arrays.binarySearch(ids[i], id);
+                if (at < 0) {
+                    continue;
+                }
+                if (ids[i].length > 1) {
+                    long[][] nextIds = ids.clone();
+                    nextIds[i] = delete(ids[i], at);
+                    return new Buckets(days, nextIds, size - 1);
+                }
+                long[][] nextIds = new long[ids.length - 1][];
+                System.arraycopy(ids, 0, nextIds, 0, i);
+                System.arraycopy(ids, i + 1, nextIds, i, ids.length - i - 1);
+                return new Buckets(delete(days, i), nextIds, size - 1);
+            }
+            return this;
+        }
+
+        private static long[] insert(long[] values, int at, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, at, result, at + 1, values.length - at);
+            return result;
+        }
+
+        private static long[] delete(long[] values, int at) {
+            long[] result = new long[values.length - 1];
+            System.arraycopy(values, 0, result, 0, at);
+            System.arraycopy(values, at + 1, result, at, values.length - at - 1);
+            return result;
+        }
+    }
+}
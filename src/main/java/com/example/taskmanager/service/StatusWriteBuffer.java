@@ -0,0 +1,331 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Opt-in write-behind for single-task status changes ({@code app.status-write-behind.enabled}).
+ * <p>
+ * A status change is acknowledged once it is in the buffer, which keeps only the latest
+ * status per task id. A background thread writes the buffer every {@code flush-interval},
+ * or as soon as it holds {@code flush-size} tasks: the tasks are loaded (mostly from the
+ * second-level cache) and written in one JDBC batch of versioned UPDATEs. An entry remembers
+ * the task version it was made against; if the task was changed since by another write,
+ * that write is newer and the entry is dropped.
+ * <p>
+ * The buffer holds at most {@code max-pending} tasks. When it is full, {@link #offer} refuses
+ * new tasks and the caller writes synchronously, so a slow database slows callers down rather
+ * than growing the buffer. The buffer is flushed on shutdown; changes still pending when the
+ * process dies are lost. Reads through {@link TaskService} overlay pending statuses, status
+ * counts included, and other writes to a task through the services (bulk ones too) take its
+ * pending status over with {@link #take}.
+ * A read that tags the task with its version as ETag first writes its pending status with
+ * {@link #flush(Long)}, since an overlaid status does not change the version.
+ * With write-behind disabled the buffer stays empty and every method is a no-op.
+ */
+@Component
+public class StatusWriteBuffer implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusWriteBuffer.class);
+
+    /**
+     * A buffered status, made against the task at {@code version}, when it was stored in
+     * status {@code from}.
+     */
+    public record Pending(TaskStatus status, long version, TaskStatus from) {
+    }
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TaskStatusCounters statusCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskShards shards;
+    private final TransactionTemplate writeTransaction;
+    private final boolean enabled;
+    private final int flushSize;
+    private final int maxPending;
+    private final ScheduledExecutorService flusher;
+
+    public StatusWriteBuffer(TaskRepository taskRepository,
+                             EntityManager entityManager,
+                             TaskStatusCounters statusCounters,
+                             ApplicationEventPublisher eventPublisher,
+                             TaskShards shards,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.status-write-behind.enabled:false}") boolean enabled,
+                             @Value("${app.status-write-behind.flush-interval:PT0.2S}") Duration flushInterval,
+                             @Value("${app.status-write-behind.flush-size:500}") int flushSize,
+                             @Value("${app.status-write-behind.max-pending:10000}") int maxPending) {
+        if (enabled && (flushSize < 1 || maxPending < flushSize)) {
+            throw new IllegalArgumentException("Status write-behind needs 1 <= flush-size <= max-pending");
+        }
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.statusCounters = statusCounters;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
+        // Flushes run in their own transaction, whichever thread requests them
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+        this.flusher = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "status-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flushQuietly,
+                    flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Status write-behind enabled: flush every {} ms or {} tasks, at most {} pending",
+                    flushInterval.toMillis(), flushSize, maxPending);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers {@code status} for a task loaded in the current transaction and returns the task,
+     * detached, as it will read once written. Returns null when the buffer is full and the
+     * task is not in it yet; the caller must then write the change itself.
+     */
+    public Task offer(Task task, TaskStatus status) {
+        Long id = task.getId();
+        Pending next = new Pending(status, task.getVersion(), task.getStatus());
+        if (pending.size() >= maxPending && pending.computeIfPresent(id, (key, previous) -> next) == null) {
+            requestFlush();
+            return null;
+        }
+        pending.put(id, next);
+        if (pending.size() >= flushSize) {
+            requestFlush();
+        }
+        entityManager.detach(task);
+        task.setStatus(status);
+        return task;
+    }
+
+    /**
+     * Removes and returns the task's pending status, for a write that applies it itself.
+     * Inside a transaction the entry is put back if that transaction rolls back.
+     */
+    public Pending take(Long id) {
+        Pending taken = pending.isEmpty() ? null : pending.remove(id);
+        if (taken != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pending.putIfAbsent(id, taken);
+                    }
+                }
+            });
+        }
+        return taken;
+    }
+
+    /**
+     * The task as it reads with its pending status applied; detached from the persistence
+     * context when changed, so the pending status is never flushed with it.
+     */
+    public Task overlay(Task task) {
+        Pending entry = pending.isEmpty() ? null : pending.get(task.getId());
+        if (entry == null || entry.status() == task.getStatus()) {
+            return task;
+        }
+        entityManager.detach(task);
+        task.setStatus(entry.status());
+        return task;
+    }
+
+    public TaskSummary overlay(TaskSummary summary) {
+        Pending entry = pending.isEmpty() ? null : pending.get(summary.id());
+        if (entry == null || entry.status() == summary.status()) {
+            return summary;
+        }
+        return new TaskSummary(summary.id(), summary.title(), entry.status(), summary.dueDate(),
+                summary.createdAt(), summary.updatedAt());
+    }
+
+    public List<TaskSummary> overlay(List<TaskSummary> summaries) {
+        return pending.isEmpty() ? summaries : summaries.stream().map(this::overlay).toList();
+    }
+
+    /**
+     * Per-status task counts of the stored tasks, as they read with every pending status
+     * applied; the status counters only move once a pending status is written.
+     */
+    public Map<TaskStatus, Long> overlay(Map<TaskStatus, Long> counts) {
+        if (pending.isEmpty()) {
+            return counts;
+        }
+        Map<TaskStatus, Long> overlaid = new EnumMap<>(TaskStatus.class);
+        overlaid.putAll(counts);
+        pending.values().forEach(entry -> {
+            if (entry.from() != entry.status()) {
+                overlaid.merge(entry.from(), -1L, Long::sum);
+                overlaid.merge(entry.status(), 1L, Long::sum);
+            }
+        });
+        return overlaid;
+    }
+
+    /**
+     * Ids of tasks with {@code status} pending.
+     */
+    public Set<Long> pendingIds(TaskStatus status) {
+        if (pending.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        pending.forEach((id, entry) -> {
+            if (entry.status() == status) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes everything buffered so far; one flush runs at a time.
+     *
+     * @return number of tasks whose status was written
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            Map<Long, Pending> batch = new HashMap<>(pending);
+            // An entry replaced since the copy stays buffered for the next flush
+            batch.entrySet().removeIf(entry -> !pending.remove(entry.getKey(), entry.getValue()));
+            return write(batch);
+        }
+    }
+
+    /**
+     * Writes the task's pending status now, if it has one, so that its version (and with it
+     * its ETag) covers every status it reads with. Runs in its own transaction; call it
+     * outside of one, before reading the task.
+     *
+     * @return whether a status was written
+     */
+    public boolean flush(Long id) {
+        if (pending.isEmpty() || !pending.containsKey(id)) {
+            return false;
+        }
+        synchronized (flushLock) {
+            Pending entry = pending.remove(id);
+            return entry != null && write(Map.of(id, entry)) > 0;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        if (!pending.isEmpty()) {
+            log.warn("Lost {} buffered status changes at shutdown", pending.size());
+        }
+    }
+
+    private int write(Map<Long, Pending> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<List<Long>> byShard = shards.partition(batch.keySet());
+            int written = writeTransaction.execute(status -> shards.onEachShard(false,
+                    shard -> write(byShard.get(shard), batch))).stream().mapToInt(Integer::intValue).sum();
+            log.debug("Flushed {} buffered status changes, {} superseded", written, batch.size() - written);
+            return written;
+        } catch (RuntimeException ex) {
+            // Newer entries win; superseded ones are dropped by the version check on retry
+            batch.forEach(pending::putIfAbsent);
+            throw ex;
+        }
+    }
+
+    private int write(List<Long> ids, Map<Long, Pending> batch) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Task> tasks = taskRepository.findAllInOrder(ids.stream().mapToLong(Long::longValue).toArray());
+        List<Task> changed = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Pending entry = batch.get(task.getId());
+            if (task.getVersion() != entry.version() || task.getStatus() == entry.status()) {
+                continue;
+            }
+            statusCounters.recordStatusChange(task.getStatus(), entry.status());
+            task.setStatus(entry.status());
+            changed.add(task);
+        }
+        // The dirty tasks go out as one JDBC batch of UPDATE ... WHERE id = ? AND version = ?
+        entityManager.flush();
+        changed.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.updated(task)));
+        return changed.size();
+    }
+
+    private void requestFlush() {
+        if (flusher != null && !flusher.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Failed to flush {} buffered status changes; retrying later", pending.size(), ex);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.ArchivedTask;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.ArchivedTaskRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.shard.ShardKey;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Completed tasks moved out of the hot {@code tasks} table into {@code tasks_archive}, and
+ * the queries that still reach them there. An archived task keeps its id; to the rest of the
+ * application it looks deleted, so listeners drop it from derived state such as the search index.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private static final Comparator<TaskSummary> BY_ID = Comparator.comparing(TaskSummary::id);
+
+    private final ArchivedTaskRepository archiveRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatusCounters statusCounters;
+    private final TaskShards shards;
+    private final Clock clock;
+
+    public TaskArchiveService(ArchivedTaskRepository archiveRepository,
+                              TaskRepository taskRepository,
+                              TaskTombstoneRepository tombstoneRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              TaskStatusCounters statusCounters,
+                              TaskShards shards,
+                              Clock clock) {
+        this.archiveRepository = archiveRepository;
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.eventPublisher = eventPublisher;
+        this.statusCounters = statusCounters;
+        this.shards = shards;
+        this.clock = clock;
+    }
+
+    public ArchivedTask getArchivedTask(@ShardKey Long id) {
+        log.debug("Fetching archived task with id: {}", id);
+        return archiveRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived task not found with id: " + id));
+    }
+
+    /**
+     * Keyset-paginated listing of archived tasks in id order, like {@link TaskService#getTaskPage}.
+     */
+    public CursorPage<TaskSummary> getArchivedPage(String cursor, int limit) {
+        log.debug("Fetching archived task page - limit: {}", limit);
+        if (limit < 1 || limit > TaskService.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + TaskService.MAX_PAGE_SIZE);
+        }
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : TaskCursor.start(TaskSortOrder.ID);
+        if (after.getOrder() != TaskSortOrder.ID) {
+            throw new InvalidRequestException("Cursor was issued for sort order " + after.getOrder());
+        }
+
+        long afterId = after.isStart() ? Long.MIN_VALUE : after.getId();
+        List<TaskSummary> rows = TaskShards.merge(
+                shards.query(() -> archiveRepository.findSummariesAfter(afterId, Limit.of(limit + 1))), BY_ID);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<TaskSummary> items = rows.subList(0, limit);
+        return new CursorPage<>(items, TaskCursor.after(TaskSortOrder.ID, null, items.get(limit - 1).id()).encode());
+    }
+
+    /**
+     * Moves up to {@code limit} DONE tasks last updated before {@code cutoff} into the archive,
+     * in one short transaction: the rows are locked, copied with INSERT ... SELECT, given
+     * tombstones for delta sync clients and deleted, so a task changed concurrently is either
+     * archived as committed or left in place. Runs on the shard bound by the caller.
+     *
+     * @return number of tasks archived; fewer than {@code limit} once none are left
+     */
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff, int limit) {
+        List<Long> ids = taskRepository.lockIdsUpdatedBefore(TaskStatus.DONE, cutoff, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = Task.timestamp(clock);
+        archiveRepository.copyFromTasks(ids, now);
+        tombstoneRepository.recordDeletions(ids, now);
+        int archived = taskRepository.deleteTasksByIdIn(ids);
+        statusCounters.recordDeleted(TaskStatus.DONE, archived);
+        ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+        return archived;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.shard.ShardContext;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that keeps the {@code tasks} table small by moving DONE tasks that have not
+ * changed for {@code app.archive.min-age} into the archive through {@link TaskArchiveService}.
+ * <p>
+ * Work is bounded so foreground traffic keeps priority: each transaction moves at most
+ * {@code chunk-size} tasks, the job pauses for {@code pause} between chunks and stops after
+ * {@code max-per-run} tasks per shard, leaving the rest for the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskArchiveService archiveService;
+    private final TaskShards shards;
+    private final Clock clock;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Duration pause;
+    private final int maxPerRun;
+
+    public TaskArchiver(TaskArchiveService archiveService,
+                        TaskShards shards,
+                        Clock clock,
+                        @Value("${app.archive.min-age:P30D}") Duration minAge,
+                        @Value("${app.archive.chunk-size:500}") int chunkSize,
+                        @Value("${app.archive.pause:PT0.2S}") Duration pause,
+                        @Value("${app.archive.max-per-run:50000}") int maxPerRun) {
+        if (chunkSize < 1 || chunkSize > TaskBulkService.ID_CHUNK_SIZE) {
+            throw new IllegalArgumentException("app.archive.chunk-size must be between 1 and " + TaskBulkService.ID_CHUNK_SIZE);
+        }
+        this.archiveService = archiveService;
+        this.shards = shards;
+        this.clock = clock;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.maxPerRun = maxPerRun;
+    }
+
+    /**
+     * Archives eligible tasks on every shard in turn.
+     *
+     * @return number of tasks archived
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT10M}",
+            initialDelayString = "${app.archive.interval:PT10M}")
+    public long archive() {
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = Task.timestamp(clock).minus(minAge);
+        long archived = 0;
+        for (int shard = 0; shard < shards.count() && !Thread.currentThread().isInterrupted(); shard++) {
+            archived += ShardContext.callOn(shard, () -> archiveShard(cutoff));
+        }
+        if (archived > 0) {
+            log.info("Archived {} tasks done before {} in {} ms", archived, cutoff, System.currentTimeMillis() - started);
+        }
+        return archived;
+    }
+
+    private long archiveShard(LocalDateTime cutoff) {
+        long archived = 0;
+        while (archived < maxPerRun) {
+            int moved = archiveService.archiveChunk(cutoff, (int) Math.min(chunkSize, maxPerRun - archived));
+            archived += moved;
+            if (moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Task archiving interrupted");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.BoardGroupBy;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.DueCategory;
+import com.example.taskmanager.dto.TaskBoard;
+import com.example.taskmanager.dto.TaskBoardGroup;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskFilter;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task board: tasks grouped by status or by due category, each group with its total count and
+ * its first items ordered by due date (undated last), then id.
+ * <p>
+ * A group's items are a keyset page of {@link TaskRepository#findFilteredPage}
+ * restricted to the group, so each group costs one index range scan of at most the requested
+ * size however large it is; the remaining items are fetched a page at a time with the group's
+ * cursor. Counts come from one grouped query, or from {@link TaskStatusCounters} for an
+ * unfiltered status board.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskBoardService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBoardService.class);
+
+    private static final Comparator<TaskSummary> BY_DUE_DATE =
+            Comparator.comparing(TaskSummary::dueDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                    .thenComparing(TaskSummary::id);
+
+    /** The tasks of one group and where its listing starts. */
+    private record Group(String key, TaskStatus status, TaskFilter filter, TaskCursor start) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusCounters statusCounters;
+    private final StatusWriteBuffer statusBuffer;
+    private final TaskShards shards;
+    private final Clock clock;
+
+    public TaskBoardService(TaskRepository taskRepository,
+                            TaskStatusCounters statusCounters,
+                            StatusWriteBuffer statusBuffer,
+                            TaskShards shards,
+                            Clock clock) {
+        this.taskRepository = taskRepository;
+        this.statusCounters = statusCounters;
+        this.statusBuffer = statusBuffer;
+        this.shards = shards;
+        this.clock = clock;
+    }
+
+    /**
+     * Every group of {@code groupBy} with its count and up to {@code limitPerGroup} items;
+     * {@code query}, when given, keeps only tasks whose title contains it.
+     */
+    public TaskBoard<TaskSummary> getBoard(BoardGroupBy groupBy, int limitPerGroup, String query) {
+        log.debug("Fetching task board - groupBy: {}, limitPerGroup: {}, query: {}", groupBy, limitPerGroup, query);
+        checkLimit(limitPerGroup);
+
+        LocalDate today = LocalDate.now(clock);
+        TaskFilter filter = new TaskFilter(null, null, null, null).withTitleContaining(query);
+        Map<String, Long> counts = counts(groupBy, filter, today);
+
+        List<TaskBoardGroup<TaskSummary>> groups = groups(groupBy, filter, today).stream()
+                .map(group -> {
+                    CursorPage<TaskSummary> page = page(group, group.start(), limitPerGroup);
+                    return new TaskBoardGroup<>(group.key(), counts.getOrDefault(group.key(), 0L),
+                            page.getItems(), page.getNextCursor());
+                })
+                .toList();
+        return new TaskBoard<>(groupBy, groups);
+    }
+
+    /**
+     * The next items of one board group after {@code cursor}, or its first items without one.
+     */
+    public CursorPage<TaskSummary> getGroupPage(BoardGroupBy groupBy, String key, String query,
+                                                String cursor, int limit) {
+        log.debug("Fetching task board group - groupBy: {}, key: {}, query: {}, limit: {}", groupBy, key, query, limit);
+        checkLimit(limit);
+
+        TaskFilter filter = new TaskFilter(null, null, null, null).withTitleContaining(query);
+        Group group = groups(groupBy, filter, LocalDate.now(clock)).stream()
+                .filter(candidate -> candidate.key().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Unknown " + groupBy + " group: " + key));
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : group.start();
+        if (after.getOrder() != TaskSortOrder.DUE_DATE) {
+            throw new InvalidRequestException("Cursor was issued for sort order " + after.getOrder());
+        }
+        return page(group, after, limit);
+    }
+
+    private CursorPage<TaskSummary> page(Group group, TaskCursor after, int limit) {
+        List<TaskSummary> rows = TaskShards.merge(
+                shards.query(() -> taskRepository.findFilteredPage(group.filter(), after, limit + 1)), BY_DUE_DATE);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(withPendingStatus(rows, group), null);
+        }
+
+        List<TaskSummary> items = rows.subList(0, limit);
+        TaskSummary last = items.get(limit - 1);
+        return new CursorPage<>(withPendingStatus(items, group),
+                TaskCursor.after(TaskSortOrder.DUE_DATE, last.dueDate(), last.id()).encode());
+    }
+
+    /**
+     * Like the paginated listing, a status group shows buffered status changes by dropping
+     * the tasks moving out of it; tasks moving in appear once written.
+     */
+    private List<TaskSummary> withPendingStatus(List<TaskSummary> rows, Group group) {
+        if (statusBuffer.pendingCount() == 0) {
+            return rows;
+        }
+        List<TaskSummary> overlaid = statusBuffer.overlay(rows);
+        return group.status() == null
+                ? overlaid
+                : overlaid.stream().filter(task -> task.status() == group.status()).toList();
+    }
+
+    private Map<String, Long> counts(BoardGroupBy groupBy, TaskFilter filter, LocalDate today) {
+        Map<String, Long> counts = new HashMap<>();
+        if (groupBy == BoardGroupBy.STATUS && filter.isUnrestricted()) {
+            statusBuffer.overlay(statusCounters.snapshot()).forEach((status, count) -> counts.put(status.name(), count));
+        } else if (groupBy == BoardGroupBy.STATUS) {
+            shards.query(() -> taskRepository.countByStatus(filter)).forEach(shard ->
+                    shard.forEach((status, count) -> counts.merge(status.name(), count, Long::sum)));
+        } else {
+            shards.query(() -> taskRepository.countByDueCategory(filter, today)).forEach(shard ->
+                    shard.forEach((category, count) -> counts.merge(category.name(), count, Long::sum)));
+        }
+        return counts;
+    }
+
+    private static List<Group> groups(BoardGroupBy groupBy, TaskFilter filter, LocalDate today) {
+        TaskCursor start = TaskCursor.start(TaskSortOrder.DUE_DATE);
+        if (groupBy == BoardGroupBy.STATUS) {
+            return Arrays.stream(TaskStatus.values())
+                    .map(status -> new Group(status.name(), status, filter.withStatus(status), start))
+                    .toList();
+        }
+        return Arrays.stream(DueCategory.values())
+                .map(category -> switch (category) {
+                    case OVERDUE -> new Group(category.name(), null, filter.withDueRange(null, today.minusDays(1)), start);
+                    case TODAY -> new Group(category.name(), null, filter.withDueRange(today, today), start);
+                    case UPCOMING -> new Group(category.name(), null, filter.withDueRange(today.plusDays(1), null), start);
+                    case NONE -> new Group(category.name(), null, filter, TaskCursor.startOfUndated());
+                })
+                .toList();
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > TaskService.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + TaskService.MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskFilter;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.shard.NewShard;
+import com.example.taskmanager.shard.TaskShards;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-oriented write operations that would be too slow as one request per task.
+ * <p>
+ * With sharding enabled a created batch lands on a single shard, while updates and deletes
+ * run on every shard holding affected tasks. Each shard commits on its own, and status updates
+ * commit chunk by chunk, so a failure can leave an update or delete partly applied.
+ */
+@Service
+@Transactional
+public class TaskBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBulkService.class);
+
+    /** Maximum ids bound into a single IN list. */
+    public static final int ID_CHUNK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatusCounters statusCounters;
+    private final DueDateIndex dueDateIndex;
+    private final TaskChangeFeed changeFeed;
+    private final StatusWriteBuffer statusBuffer;
+    private final Clock clock;
+    private final TaskShards shards;
+    private final int jdbcBatchSize;
+    private final int maxBatchSize;
+    /** Joins the caller's transaction, if any; otherwise each chunk commits on its own. */
+    private final TransactionTemplate chunkTransaction;
+
+    public TaskBulkService(TaskRepository taskRepository,
+                           TaskTombstoneRepository tombstoneRepository,
+                           EntityManager entityManager,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher,
+                           TaskStatusCounters statusCounters,
+                           DueDateIndex dueDateIndex,
+                           TaskChangeFeed changeFeed,
+                           StatusWriteBuffer statusBuffer,
+                           Clock clock,
+                           TaskShards shards,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.jpa.batch-size:50}") int jdbcBatchSize,
+                           @Value("${app.batch.max-size:5000}") int maxBatchSize) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.statusCounters = statusCounters;
+        this.dueDateIndex = dueDateIndex;
+        this.changeFeed = changeFeed;
+        this.statusBuffer = statusBuffer;
+        this.clock = clock;
+        this.shards = shards;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Inserts all tasks in a single transaction using JDBC batches.
+     * The whole batch is rejected if any item fails validation; errors are keyed
+     * by item index, e.g. {@code [3].title}.
+     *
+     * @return ids of the created tasks, in submission order
+     */
+    @NewShard
+    public List<Long> createTasks(List<Task> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            throw new InvalidRequestException("At least one task is required");
+        }
+        if (tasks.size() > maxBatchSize) {
+            throw new InvalidRequestException("A batch may contain at most " + maxBatchSize + " tasks");
+        }
+        validate(tasks);
+
+        log.info("Creating {} tasks in batches of {}", tasks.size(), jdbcBatchSize);
+        List<Long> ids = new ArrayList<>(tasks.size());
+        Map<TaskStatus, Long> created = new EnumMap<>(TaskStatus.class);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(null);
+            if (task.getStatus() == null) {
+                task.setStatus(TaskStatus.TODO);
+            }
+            entityManager.persist(task);
+            ids.add(task.getId());
+            created.merge(task.getStatus(), 1L, Long::sum);
+            eventPublisher.publishEvent(TaskChangedEvent.created(task));
+
+            // Flush a full JDBC batch and drop it from the persistence context
+            if ((i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        created.forEach(statusCounters::recordCreated);
+        return ids;
+    }
+
+    /**
+     * Moves every selected task to the target status without loading entities, in chunks of
+     * {@value #ID_CHUNK_SIZE} tasks: an id list chunk by chunk, a filter by walking its matches
+     * in id order. Each chunk locks the rows that will move, updates exactly those and adjusts
+     * the counters and due-date index for them, in a transaction of its own unless the caller
+     * has one, so a broad filter never holds more than one chunk of rows locked. A failure
+     * leaves the chunks before it applied. updatedAt is set exactly as {@code @PreUpdate}
+     * would set it, when the chunk is written.
+     *
+     * @return number of tasks whose status changed
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long updateStatus(BulkStatusUpdateRequest request) {
+        TaskFilter filter = new TaskFilter(request.getIds(), request.getFromStatus(),
+                request.getDueFrom(), request.getDueTo());
+        if (filter.isUnrestricted()) {
+            throw new InvalidRequestException("Provide ids or at least one filter criterion");
+        }
+        if (filter.getDueFrom() != null && filter.getDueTo() != null
+                && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new InvalidRequestException("dueFrom must not be after dueTo");
+        }
+
+        TaskStatus status = request.getStatus();
+        log.info("Bulk status transition to {} for {}", status, filter);
+
+        List<List<Long>> byShard = filter.hasIds() ? shards.partition(filter.getIds()) : null;
+        long moved = sum(shards.onEachShard(shard -> {
+            long count = 0;
+            if (byShard != null) {
+                List<Long> ids = byShard.get(shard);
+                for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+                    count += moveChunk(filter.withIds(chunk), status, null).size();
+                }
+                return count;
+            }
+            List<TaskSummary> chunk;
+            Long afterId = null;
+            do {
+                chunk = moveChunk(filter, status, afterId);
+                count += chunk.size();
+                afterId = chunk.isEmpty() ? afterId : chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == ID_CHUNK_SIZE);
+            return count;
+        }));
+
+        // No per-task events are published
+        changeFeed.recordUnknownChange();
+        return moved;
+    }
+
+    /**
+     * Deletes the given tasks with one DELETE per {@value #ID_CHUNK_SIZE} ids. Each chunk first
+     * locks the tasks that exist and writes their tombstones in one INSERT; ids that do not
+     * exist are ignored and no deletion is published for them.
+     *
+     * @return number of tasks deleted
+     */
+    public long deleteTasks(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+        if (ids.size() > maxBatchSize) {
+            throw new InvalidRequestException("A batch may contain at most " + maxBatchSize + " ids");
+        }
+
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        log.info("Deleting {} tasks in chunks of {}", distinct.size(), ID_CHUNK_SIZE);
+        statusCounters.recordUnknownChange();
+        LocalDateTime now = Task.timestamp(clock);
+        List<List<Long>> byShard = shards.partition(distinct);
+        List<Long> deleted = shards.onEachShard(false, shard -> {
+            List<Long> removed = new ArrayList<>();
+            List<Long> onShard = byShard.get(shard);
+            for (int from = 0; from < onShard.size(); from += ID_CHUNK_SIZE) {
+                List<Long> chunk = taskRepository.lockExistingIds(
+                        onShard.subList(from, Math.min(from + ID_CHUNK_SIZE, onShard.size())));
+                if (chunk.isEmpty()) {
+                    continue;
+                }
+                chunk.forEach(statusBuffer::take);
+                tombstoneRepository.recordDeletions(chunk, now);
+                taskRepository.deleteTasksByIdIn(chunk);
+                removed.addAll(chunk);
+            }
+            return removed;
+        }).stream().flatMap(List::stream).toList();
+        deleted.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+        return deleted.size();
+    }
+
+    /**
+     * Locks and moves the next chunk of {@code filter}'s matches after {@code afterId}.
+     *
+     * @return the moved tasks as they were before the move, in id order
+     */
+    private List<TaskSummary> moveChunk(TaskFilter filter, TaskStatus status, Long afterId) {
+        return chunkTransaction.execute(transaction -> {
+            List<TaskSummary> moved = taskRepository.lockForStatusChange(filter, status, afterId, ID_CHUNK_SIZE);
+            if (moved.isEmpty()) {
+                return moved;
+            }
+            // Written over by this move, like any other write to the task
+            moved.forEach(task -> statusBuffer.take(task.id()));
+            taskRepository.updateStatus(moved.stream().map(TaskSummary::id).toList(), status, Task.timestamp(clock));
+
+            Map<TaskStatus, Long> movedFrom = new EnumMap<>(TaskStatus.class);
+            moved.forEach(task -> movedFrom.merge(task.status(), 1L, Long::sum));
+            statusCounters.recordStatusChanges(movedFrom, status);
+            dueDateIndex.recordStatusChange(moved, status);
+            return moved;
+        });
+    }
+
+    private static long sum(List<? extends Number> perShard) {
+        return perShard.stream().mapToLong(Number::longValue).sum();
+    }
+
+    private void validate(List<Task> tasks) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null) {
+                errors.put("[" + i + "]", "Task must not be null");
+                continue;
+            }
+            for (ConstraintViolation<Task> violation : validator.validate(task)) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException(
+                    errors.size() + " validation error(s) in batch. Check 'validationErrors' for details.",
+                    errors);
+        }
+    }
+}
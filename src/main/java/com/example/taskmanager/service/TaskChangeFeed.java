@@ -0,0 +1,275 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.WorkerThreads;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of committed task changes behind {@code GET /api/tasks/stream}.
+ * <p>
+ * Every change is serialized once into an SSE frame ({@code created} and {@code updated}
+ * carry the task, {@code deleted} its id) and appended to a ring of the last
+ * {@code app.stream.buffer-size} frames shared by all subscribers. A subscriber is just a
+ * cursor into that ring, drained by a sender thread, so fan-out costs no copies and a slow
+ * client never holds up the writer: one that falls a full ring behind is disconnected and,
+ * like any client that lost its connection, reconnects with {@code Last-Event-ID}. Frames
+ * still in the ring are replayed; otherwise, and after bulk changes that publish no per-task
+ * events, the client gets a {@code reset} event and should reload its list.
+ */
+@Component
+public class TaskChangeFeed implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private record Frame(long seq, Set<DataWithMediaType> data) {
+    }
+
+    // Event ids are "<epoch>-<seq>", so ids from before a restart are recognised as unknown
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Frame[] ring;
+    private long latest;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final ExecutorService senders;
+
+    public TaskChangeFeed(TaskRepository taskRepository,
+                          ObjectMapper objectMapper,
+                          @Value("${app.stream.buffer-size:1000}") int bufferSize,
+                          @Value("${app.stream.timeout:PT30M}") Duration timeout,
+                          Environment environment) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("app.stream.buffer-size must be positive");
+        }
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.ring = new Frame[bufferSize];
+        this.timeout = timeout;
+        this.senders = Executors.newCachedThreadPool(
+                WorkerThreads.factory("task-stream", WorkerThreads.isVirtual(environment)));
+    }
+
+    /**
+     * Opens a stream of the changes committed from now on, or after {@code lastEventId}
+     * when that event is still buffered.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber;
+        synchronized (this) {
+            long resumeAt = resumePoint(lastEventId);
+            // A comment first, so the response starts right away
+            Set<DataWithMediaType> greeting = resumeAt >= 0 || lastEventId == null
+                    ? HEARTBEAT
+                    : SseEmitter.event().id(eventId(latest)).name("reset").data("{}", MediaType.APPLICATION_JSON).build();
+            subscriber = new Subscriber(emitter, resumeAt >= 0 ? resumeAt : latest, greeting);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::forget);
+        emitter.onError(ex -> subscriber.forget());
+        emitter.onTimeout(subscriber::close);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Runs only once the change is committed. A failure here is logged rather than thrown:
+     * the database write has already succeeded.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            Task task = event.getTask();
+            if (task == null && event.getType() != TaskChangedEvent.Type.DELETED) {
+                // Written without being loaded (e.g. a merge patch), so read back the committed row
+                task = taskRepository.findById(event.getTaskId()).orElse(null);
+            }
+            if (task == null) {
+                publish("deleted", objectMapper.writeValueAsString(Map.of("id", event.getTaskId())));
+            } else {
+                publish(event.getType() == TaskChangedEvent.Type.CREATED ? "created" : "updated",
+                        objectMapper.writeValueAsString(task));
+            }
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.error("Failed to publish {} to the change stream", event, ex);
+        }
+    }
+
+    /**
+     * Tells subscribers to reload, for changes that publish no per-task events; sent once the
+     * current transaction commits.
+     */
+    public void recordUnknownChange() {
+        AfterCommit.run(() -> publish("reset", "{}"));
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat:PT15S}", initialDelayString = "${app.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(Subscriber::close);
+        senders.shutdown();
+    }
+
+    private void publish(String name, String json) {
+        long seq;
+        synchronized (this) {
+            seq = ++latest;
+            ring[index(seq)] = new Frame(seq, Collections.unmodifiableSet(
+                    SseEmitter.event().id(eventId(seq)).name(name).data(json, MediaType.APPLICATION_JSON).build()));
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (seq - subscriber.sent > ring.length) {
+                log.info("Dropping change stream subscriber {} events behind", seq - subscriber.sent);
+                subscriber.close();
+            } else {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    private synchronized Frame next(long sent) {
+        return sent < latest ? ring[index(sent + 1)] : null;
+    }
+
+    private synchronized boolean hasAfter(long sent) {
+        return sent < latest;
+    }
+
+    /**
+     * The sequence number to resume after, or -1 when the id is unknown or no longer buffered.
+     */
+    private long resumePoint(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            long seq = Long.parseLong(lastEventId.substring(epoch.length() + 1));
+            return seq <= latest && latest - seq <= ring.length ? seq : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    private int index(long seq) {
+        return (int) (seq % ring.length);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Set<DataWithMediaType> greeting;
+        private volatile long sent;
+        private volatile boolean heartbeatDue;
+
+        Subscriber(SseEmitter emitter, long sent, Set<DataWithMediaType> greeting) {
+            this.emitter = emitter;
+            this.sent = sent;
+            this.greeting = greeting;
+        }
+
+        void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException ex) {
+                    // Rejected during shutdown
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * Stops the stream; the emitter is completed on a sender thread, as it may be blocked
+         * writing to this client.
+         */
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                senders.execute(emitter::complete);
+            }
+        }
+
+        void forget() {
+            closed.set(true);
+            subscribers.remove(this);
+        }
+
+        private void drain() {
+            try {
+                if (greeting != null) {
+                    emitter.send(greeting);
+                    greeting = null;
+                }
+                Frame frame;
+                while (!closed.get() && (frame = next(sent)) != null) {
+                    if (frame.seq() != sent + 1) {
+                        // Overwritten before it could be sent
+                        close();
+                        return;
+                    }
+                    emitter.send(frame.data());
+                    sent = frame.seq();
+                }
+                if (heartbeatDue && !closed.get()) {
+                    heartbeatDue = false;
+                    emitter.send(HEARTBEAT);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                forget();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (heartbeatDue || hasAfter(sent)) {
+                schedule();
+            }
+        }
+    }
+}
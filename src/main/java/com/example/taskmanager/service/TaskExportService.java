@@ -0,0 +1,89 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the full task table as newline-delimited JSON.
+ * Rows are read through a forward-only cursor and detached once written,
+ * so heap usage does not depend on the number of tasks. With sharding enabled the
+ * shards are exported one after another, each in id order.
+ */
+@Service
+public class TaskExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExportService.class);
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TaskShards shards;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             EntityManager entityManager,
+                             TaskShards shards,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.shards = shards;
+        this.objectMapper = objectMapper;
+        // Let the servlet buffer decide when to flush instead of flushing after every row
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every task as one JSON document per line. The stream is flushed but not closed.
+     *
+     * @return number of tasks written
+     */
+    @Transactional(readOnly = true)
+    public long exportTo(OutputStream out) throws IOException {
+        log.info("Exporting tasks as NDJSON");
+        long count;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            count = shards.queryInTurn(() -> write(generator)).stream().mapToLong(Long::longValue).sum();
+            generator.flush();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} tasks", count);
+        return count;
+    }
+
+    private long write(JsonGenerator generator) {
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                writer.writeValue(generator, task);
+                generator.writeRaw('\n');
+                entityManager.detach(task);
+                count++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return count;
+    }
+}
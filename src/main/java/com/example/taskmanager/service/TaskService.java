@@ -1,58 +1,246 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskCursor;
 import com.example.taskmanager.dto.TaskDTO;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskStatusSummary;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.search.TaskSearchIndex;
+import com.example.taskmanager.shard.NewShard;
+import com.example.taskmanager.shard.ShardKey;
+import com.example.taskmanager.shard.TaskShards;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Service layer for Task business logic.
  * Separates business rules from controller and repository concerns.
+ * <p>
+ * With sharding enabled, calls on one task run on the shard named by its {@link ShardKey}
+ * id, and list queries run on every shard through {@link TaskShards} and merge the results
+ * in the same order a single database would return them.
+ * <p>
+ * Reads apply status changes still held by {@link StatusWriteBuffer}, and other writes to a
+ * task take its buffered status change over, so write-behind is invisible to callers.
  */
 @Service
 @Transactional
 public class TaskService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
+    /** Upper bound for a single page of the cursor-paginated listing. */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /** Statuses a task can be overdue in. */
+    static final Set<TaskStatus> OPEN_STATUSES = Collections.unmodifiableSet(
+            EnumSet.complementOf(EnumSet.of(TaskStatus.DONE)));
+
+    private static final Comparator<TaskSummary> BY_ID = Comparator.comparing(TaskSummary::id);
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TaskStatusCounters statusCounters;
+    private final DueDateIndex dueDateIndex;
+    private final Clock clock;
+    private final TaskShards shards;
+    private final StatusWriteBuffer statusBuffer;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       TaskTombstoneRepository tombstoneRepository,
+                       TaskSearchIndex searchIndex,
+                       ApplicationEventPublisher eventPublisher,
+                       Validator validator,
+                       TaskStatusCounters statusCounters,
+                       DueDateIndex dueDateIndex,
+                       Clock clock,
+                       TaskShards shards,
+                       StatusWriteBuffer statusBuffer) {
         this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.statusCounters = statusCounters;
+        this.dueDateIndex = dueDateIndex;
+        this.clock = clock;
+        this.shards = shards;
+        this.statusBuffer = statusBuffer;
     }
 
+    /**
+     * List views read {@link TaskSummary} projections: no description column,
+     * no managed entities and no dirty-checking snapshots.
+     */
     @Transactional(readOnly = true)
-    public List<Task> getAllTasks() {
+    public List<TaskSummary> getAllTasks() {
         log.debug("Fetching all tasks");
-        return taskRepository.findAll();
+        return statusBuffer.overlay(TaskShards.merge(shards.query(taskRepository::findAllSummaries), BY_ID));
+    }
+
+    /**
+     * Keyset-paginated listing. Fetches one row beyond the limit to learn whether
+     * another page exists, so no COUNT query is needed. Buffered status changes show on the
+     * listed rows; a status-filtered page only gains tasks moving into the status once written.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummary> getTaskPage(TaskStatus status, TaskSortOrder order, String cursor, int limit) {
+        log.debug("Fetching task page - status: {}, order: {}, limit: {}", status, order, limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : TaskCursor.start(order);
+        if (after.getOrder() != order) {
+            throw new InvalidRequestException("Cursor was issued for sort order " + after.getOrder());
+        }
+
+        List<TaskSummary> rows = TaskShards.merge(
+                shards.query(() -> taskRepository.findPage(status, after, limit + 1)), pageOrder(order));
+        if (rows.size() <= limit) {
+            return new CursorPage<>(withPendingStatus(rows, status), null);
+        }
+
+        List<TaskSummary> items = rows.subList(0, limit);
+        TaskSummary last = items.get(limit - 1);
+        return new CursorPage<>(withPendingStatus(items, status),
+                TaskCursor.after(order, last.dueDate(), last.id()).encode());
+    }
+
+    /**
+     * Full-text search over title and description, best match first.
+     * The index only yields ids; rows are then loaded by primary key.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> searchTasks(String query, int limit) {
+        log.debug("Searching tasks - query: {}, limit: {}", query, limit);
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Long> ids = searchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // findAllById makes no ordering promise, so loadInOrder restores the ranking
+        return loadInOrder(ids, taskRepository::findAllById).stream().map(statusBuffer::overlay).toList();
     }
 
     @Transactional(readOnly = true)
-    public Task getTaskById(Long id) {
+    public Task getTaskById(@ShardKey Long id) {
         log.debug("Fetching task with id: {}", id);
-        return taskRepository.findById(id)
+        return statusBuffer.overlay(loadTask(id));
+    }
+
+    /**
+     * Writes the task's buffered status change, if any, so its version reflects the status
+     * reads return; call before {@link #getTaskVersion} or {@link #getTaskById} to tag the task.
+     * Does nothing, and opens no transaction, when no change is buffered for it.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writePendingStatus(Long id) {
+        statusBuffer.flush(id);
+    }
+
+    /**
+     * Current version of a task, read without loading the row; backs conditional GETs.
+     */
+    @Transactional(readOnly = true)
+    public long getTaskVersion(@ShardKey Long id) {
+        return taskRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<Task> getTasksByStatus(TaskStatus status) {
+    public List<TaskSummary> getTasksByStatus(TaskStatus status) {
         log.debug("Fetching tasks with status: {}", status);
-        return taskRepository.findByStatus(status);
+        List<TaskSummary> stored = TaskShards.merge(
+                shards.query(() -> taskRepository.findSummariesByStatus(status)), BY_ID);
+        if (statusBuffer.pendingCount() == 0) {
+            return stored;
+        }
+
+        // Add buffered tasks moving into the status; withPendingStatus drops those moving out
+        Set<Long> movingIn = new TreeSet<>(statusBuffer.pendingIds(status));
+        stored.forEach(task -> movingIn.remove(task.id()));
+        List<TaskSummary> added = loadInOrder(List.copyOf(movingIn), taskRepository::findAllById).stream()
+                .map(TaskSummary::of)
+                .toList();
+        return withPendingStatus(TaskShards.merge(List.of(stored, added), BY_ID), status);
+    }
+
+    /**
+     * Task totals per status from in-memory counters, with buffered status changes applied;
+     * never touches the database.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskStatusSummary getStatusSummary() {
+        return TaskStatusSummary.of(statusBuffer.overlay(statusCounters.snapshot()));
     }
 
+    /**
+     * Open tasks due before today, ordered by due date, then id. The ids come from the
+     * in-memory {@link DueDateIndex}; the tasks are loaded by id, mostly from the second-level cache.
+     */
     @Transactional(readOnly = true)
-    public List<Task> getOverdueTasks() {
-        log.debug("Fetching overdue tasks");
-        return taskRepository.findByDueDateBeforeAndStatusNot(LocalDate.now(), TaskStatus.DONE);
+    public List<TaskSummary> getOverdueTasks() {
+        LocalDate today = LocalDate.now(clock);
+        log.debug("Fetching tasks overdue as of {}", today);
+        return loadSummaries(dueDateIndex.overdue(today), task -> task.isOverdue(today));
     }
 
+    /**
+     * Open tasks due today, in id order; served like {@link #getOverdueTasks()}.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSummary> getTasksDueToday() {
+        LocalDate today = LocalDate.now(clock);
+        log.debug("Fetching tasks due on {}", today);
+        return loadSummaries(dueDateIndex.dueOn(today), task -> task.isDueToday(today));
+    }
+
+    @NewShard
     public Task createTask(Task task) {
         log.info("Creating new task: {}", task.getTitle());
         // Ensure ID is null for new entities
@@ -63,13 +251,30 @@ public class TaskService {
             task.setStatus(TaskStatus.TODO);
         }
         
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        statusCounters.recordCreated(saved.getStatus());
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+        return saved;
+    }
+
+    public Task updateTask(@ShardKey Long id, Task taskDetails) {
+        return updateTask(id, taskDetails, null);
     }
 
-    public Task updateTask(Long id, Task taskDetails) {
+    /**
+     * Updates a task that must still be at {@code expectedVersion} (any version when null).
+     * A concurrent change committed after the check still fails at flush through {@code @Version}.
+     */
+    public Task updateTask(@ShardKey Long id, Task taskDetails, Long expectedVersion) {
         log.info("Updating task with id: {}", id);
         
-        Task existingTask = getTaskById(id);
+        Task existingTask = loadTask(id);
+        checkVersion(id, existingTask.getVersion(), expectedVersion);
+        TaskStatus previousStatus = existingTask.getStatus();
+        StatusWriteBuffer.Pending pending = statusBuffer.take(id);
+        if (pending != null) {
+            existingTask.setStatus(pending.status());
+        }
         
         // Update only provided fields
         if (taskDetails.getTitle() != null) {
@@ -85,19 +290,234 @@ public class TaskService {
             existingTask.setDueDate(taskDetails.getDueDate());
         }
         
-        return taskRepository.save(existingTask);
+        Task saved = taskRepository.save(existingTask);
+        statusCounters.recordStatusChange(previousStatus, saved.getStatus());
+        eventPublisher.publishEvent(TaskChangedEvent.updated(saved));
+        return saved;
+    }
+
+    public void patchTask(@ShardKey Long id, JsonNode patch) {
+        patchTask(id, patch, null);
     }
 
-    public void deleteTask(Long id) {
+    /**
+     * Applies an RFC 7396 JSON Merge Patch as a single UPDATE of the named columns.
+     * The row is not loaded: the affected row count tells whether the task exists
+     * (and, with {@code expectedVersion}, whether it was still at that version).
+     * A status change first reads the old status so the status counters can move it.
+     * Members set to null clear the column; absent members are left untouched.
+     */
+    public void patchTask(@ShardKey Long id, JsonNode patch, Long expectedVersion) {
+        Map<String, Object> changes = toChanges(patch);
+        log.info("Patching task {} - fields: {}", id, changes.keySet());
+
+        if (changes.isEmpty()) {
+            checkVersion(id, getTaskVersion(id), expectedVersion);
+            return;
+        }
+
+        StatusWriteBuffer.Pending pending = statusBuffer.take(id);
+        if (pending != null) {
+            changes.putIfAbsent("status", pending.status());
+        }
+        TaskStatus previousStatus = changes.containsKey("status") ? findStatus(id) : null;
+        int updated = taskRepository.patch(id, changes, Task.timestamp(clock), expectedVersion);
+        if (updated == 0) {
+            throw missingOrChanged(id, expectedVersion);
+        }
+        if (previousStatus != null) {
+            statusCounters.recordStatusChange(previousStatus, (TaskStatus) changes.get("status"));
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.updated(id));
+    }
+
+    public void deleteTask(@ShardKey Long id) {
+        deleteTask(id, null);
+    }
+
+    /**
+     * Reads the task's status for the status counters, writes its tombstone, then deletes with
+     * a single statement; the affected row count tells whether the task was still there (and,
+     * with {@code expectedVersion}, whether it was still at that version). When it was not,
+     * the exception rolls the tombstone back.
+     */
+    public void deleteTask(@ShardKey Long id, Long expectedVersion) {
         log.info("Deleting task with id: {}", id);
-        Task task = getTaskById(id);
-        taskRepository.delete(task);
+        TaskStatus status = findStatus(id);
+        statusBuffer.take(id);
+        tombstoneRepository.recordDeletions(List.of(id), Task.timestamp(clock));
+        int deleted = expectedVersion == null
+                ? taskRepository.deleteTaskById(id)
+                : taskRepository.deleteTaskByIdAndVersion(id, expectedVersion);
+        if (deleted == 0) {
+            throw missingOrChanged(id, expectedVersion);
+        }
+        statusCounters.recordDeleted(status);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
     }
 
-    public Task updateTaskStatus(Long id, TaskStatus newStatus) {
+    /**
+     * With status write-behind enabled the change is buffered in {@link StatusWriteBuffer} and the
+     * task is returned as it will read once written, at its current version; when the buffer
+     * is full the change is written right away.
+     */
+    public Task updateTaskStatus(@ShardKey Long id, TaskStatus newStatus) {
         log.info("Updating task {} status to {}", id, newStatus);
-        Task task = getTaskById(id);
+        Task task = loadTask(id);
+        if (statusBuffer.isEnabled()) {
+            Task buffered = statusBuffer.offer(task, newStatus);
+            if (buffered != null) {
+                return buffered;
+            }
+        }
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(newStatus);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        statusCounters.recordStatusChange(previousStatus, saved.getStatus());
+        eventPublisher.publishEvent(TaskChangedEvent.updated(saved));
+        return saved;
+    }
+
+    /**
+     * Re-checks each loaded task, so an index entry that has drifted from the table is never served.
+     */
+    private List<TaskSummary> loadSummaries(long[] ids, Predicate<Task> matches) {
+        List<Task> tasks = shards.isSharded()
+                ? loadInOrder(Arrays.stream(ids).boxed().toList(),
+                        part -> taskRepository.findAllInOrder(part.stream().mapToLong(Long::longValue).toArray()))
+                : taskRepository.findAllInOrder(ids);
+        return tasks.stream()
+                .map(statusBuffer::overlay)
+                .filter(task -> task.getStatus() != TaskStatus.DONE && matches.test(task))
+                .map(TaskSummary::of)
+                .toList();
+    }
+
+    /**
+     * Loads tasks with {@code loader}, on the shards holding them, in the order of {@code ids}.
+     */
+    private List<Task> loadInOrder(List<Long> ids, Function<List<Long>, List<Task>> loader) {
+        List<List<Long>> byShard = shards.partition(ids);
+        Map<Long, Task> byId = new HashMap<>();
+        shards.onEachShard(true, shard -> loader.apply(byShard.get(shard)))
+                .forEach(tasks -> tasks.forEach(task -> byId.put(task.getId(), task)));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * The order {@link TaskRepository#findPage} returns rows in, for merging pages from several shards.
+     */
+    private static Comparator<TaskSummary> pageOrder(TaskSortOrder order) {
+        return order == TaskSortOrder.DUE_DATE
+                ? Comparator.comparing(TaskSummary::dueDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                        .thenComparing(BY_ID)
+                : BY_ID;
+    }
+
+    /**
+     * The stored task, without buffered status changes; for write paths.
+     */
+    private Task loadTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    /**
+     * Applies buffered status changes to listed rows and, for a status-filtered listing,
+     * drops the rows moving out of that status.
+     */
+    private List<TaskSummary> withPendingStatus(List<TaskSummary> rows, TaskStatus status) {
+        if (statusBuffer.pendingCount() == 0) {
+            return rows;
+        }
+        List<TaskSummary> overlaid = statusBuffer.overlay(rows);
+        return status == null ? overlaid : overlaid.stream().filter(task -> task.status() == status).toList();
+    }
+
+    private TaskStatus findStatus(Long id) {
+        return taskRepository.findStatusById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    private static void checkVersion(Long id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(
+                    "Task " + id + " has changed; current version is " + currentVersion);
+        }
+    }
+
+    /**
+     * Explains a conditional write that touched no rows. Only runs on the failure path.
+     */
+    private RuntimeException missingOrChanged(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new PreconditionFailedException(
+                    "Task " + id + " is no longer at version " + expectedVersion);
+        }
+        return new ResourceNotFoundException("Task not found with id: " + id);
+    }
+
+    /**
+     * Converts merge patch members into typed column values, validated with the same
+     * constraints as {@link Task}. All problems are reported together, keyed by field.
+     */
+    private Map<String, Object> toChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException("Merge patch must be a JSON object");
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        patch.fields().forEachRemaining(member -> {
+            String field = member.getKey();
+            JsonNode value = member.getValue();
+            if (!value.isNull() && !value.isTextual()) {
+                errors.put(field, "Must be a string or null");
+                return;
+            }
+            String text = value.isNull() ? null : value.textValue();
+
+            Object converted;
+            switch (field) {
+                case "title", "description" -> converted = text;
+                case "status" -> {
+                    if (text == null) {
+                        errors.put(field, "Status cannot be cleared");
+                        return;
+                    }
+                    try {
+                        converted = TaskStatus.valueOf(text);
+                    } catch (IllegalArgumentException ex) {
+                        errors.put(field, "Must be one of " + Arrays.toString(TaskStatus.values()));
+                        return;
+                    }
+                }
+                case "dueDate" -> {
+                    try {
+                        converted = text == null ? null : LocalDate.parse(text);
+                    } catch (DateTimeParseException ex) {
+                        errors.put(field, "Must be a date in yyyy-MM-dd format");
+                        return;
+                    }
+                }
+                default -> {
+                    errors.put(field, "Unknown or read-only field");
+                    return;
+                }
+            }
+
+            for (ConstraintViolation<Task> violation : validator.validateValue(Task.class, field, converted)) {
+                errors.put(field, violation.getMessage());
+            }
+            changes.put(field, converted);
+        });
+
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException("Invalid merge patch. Check 'validationErrors' for details.", errors);
+        }
+        return changes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.StatusCount;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory number of tasks per status, so summaries never scan the table.
+ * <p>
+ * The service layer reports every create, status change and delete; the delta is applied
+ * once the surrounding transaction commits, so rolled-back writes never count. Writes whose
+ * effect on the counts is unknown (bulk deletes) trigger a reconciliation instead.
+ * The counters are seeded from one grouped query at startup and reconciled on a schedule,
+ * which also repairs drift from writes made outside the service layer.
+ */
+@Component
+public class TaskStatusCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatusCounters.class);
+
+    /** Attempts before a reconciliation gives up on a moment without concurrent writes. */
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    /** Guards {@link #counts} and {@link #applied}. */
+    private final Object lock = new Object();
+    /** Per status, indexed by ordinal. */
+    private final long[] counts = new long[TaskStatus.values().length];
+    /** Bumped on every applied delta; lets a reconciliation detect writes that raced its query. */
+    private long applied;
+    /** Deltas of transactions that have not completed yet, so may have committed unapplied. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** Set while a requested reconciliation has yet to start its query. */
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+    private final Object reconcileLock = new Object();
+    private final TaskRepository taskRepository;
+    private final TaskShards shards;
+    private final TransactionTemplate readTransaction;
+
+    public TaskStatusCounters(TaskRepository taskRepository,
+                              TaskShards shards,
+                              PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.shards = shards;
+        // A fresh transaction: reconciliation can run from an afterCommit callback,
+        // where the finished transaction's resources are still bound. Not read-only, so it
+        // reads the primary even when a (possibly lagging) read replica is configured
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void recordCreated(TaskStatus status) {
+        recordCreated(status, 1);
+    }
+
+    public void recordCreated(TaskStatus status, long count) {
+        afterCommit(() -> add(status, count));
+    }
+
+    public void recordStatusChange(TaskStatus from, TaskStatus to) {
+        if (from != to) {
+            afterCommit(() -> {
+                add(from, -1);
+                add(to, 1);
+            });
+        }
+    }
+
+    /**
+     * For a set-based write that moved {@code from.get(s)} tasks out of each status {@code s}
+     * and into {@code to}.
+     */
+    public void recordStatusChanges(Map<TaskStatus, Long> from, TaskStatus to) {
+        Map<TaskStatus, Long> moved = new EnumMap<>(TaskStatus.class);
+        from.forEach((status, count) -> {
+            if (status != to && count != 0) {
+                moved.put(status, count);
+            }
+        });
+        if (!moved.isEmpty()) {
+            afterCommit(() -> moved.forEach((status, count) -> {
+                add(status, -count);
+                add(to, count);
+            }));
+        }
+    }
+
+    public void recordDeleted(TaskStatus status) {
+        recordDeleted(status, 1);
+    }
+
+    public void recordDeleted(TaskStatus status, long count) {
+        afterCommit(() -> add(status, -count));
+    }
+
+    /**
+     * For writes that moved an unknown number of tasks between statuses. Requests arriving
+     * while a reconciliation waits to start share it rather than queueing one each.
+     */
+    public void recordUnknownChange() {
+        AfterCommit.run(() -> {
+            if (reconcileRequested.compareAndSet(false, true)) {
+                reconcile();
+            }
+        });
+    }
+
+    /**
+     * Current counts, one entry per status in declaration order.
+     */
+    public Map<TaskStatus, Long> snapshot() {
+        Map<TaskStatus, Long> snapshot = new EnumMap<>(TaskStatus.class);
+        synchronized (lock) {
+            for (TaskStatus status : TaskStatus.values()) {
+                snapshot.put(status, counts[status.ordinal()]);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the counters with the database's counts from one GROUP BY query.
+     * The result is only applied if no delta landed while the query ran and no transaction
+     * with a delta is still completing, since the query may already count its commit;
+     * otherwise the query is retried, and after {@value #RECONCILE_ATTEMPTS} busy attempts
+     * the next scheduled run tries again. Reconciliations run one at a time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${app.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            reconcileCounts();
+        }
+    }
+
+    private void reconcileCounts() {
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            // Any commit from here on is covered by the query below
+            reconcileRequested.set(false);
+            long before;
+            synchronized (lock) {
+                before = applied;
+            }
+            List<List<StatusCount>> perShard = readTransaction.execute(
+                    status -> shards.query(taskRepository::countGroupedByStatus));
+
+            Map<TaskStatus, Long> actual = new EnumMap<>(TaskStatus.class);
+            perShard.forEach(rows -> rows.forEach(row -> actual.merge(row.status(), row.count(), Long::sum)));
+            long drift = 0;
+            synchronized (lock) {
+                if (applied != before || inFlight.get() > 0) {
+                    continue;
+                }
+                for (TaskStatus status : TaskStatus.values()) {
+                    long count = actual.getOrDefault(status, 0L);
+                    drift += Math.abs(count - counts[status.ordinal()]);
+                    counts[status.ordinal()] = count;
+                }
+            }
+            if (drift > 0) {
+                log.info("Reconciled status counters (drift {}): {}", drift, actual);
+            }
+            return;
+        }
+        log.warn("Skipped status counter reconciliation: tasks kept changing during the count");
+    }
+
+    /**
+     * Applies {@code delta} once the surrounding transaction commits, like {@link AfterCommit},
+     * counting it in flight until then.
+     */
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delta.run();
+            return;
+        }
+        inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean released;
+
+            @Override
+            public void afterCommit() {
+                // Together, so a reconciliation sees the commit either still in flight or applied
+                synchronized (lock) {
+                    try {
+                        delta.run();
+                    } finally {
+                        release();
+                    }
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // Rolled back, or an earlier callback failed and this one never ran
+                release();
+            }
+
+            private void release() {
+                if (!released) {
+                    released = true;
+                    inFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void add(TaskStatus status, long delta) {
+        synchronized (lock) {
+            counts[status.ordinal()] += delta;
+            applied++;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.SyncToken;
+import com.example.taskmanager.dto.TaskChanges;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskTombstone;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.shard.TaskShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Delta sync: the tasks changed and removed since a client's {@link SyncToken}, so a client
+ * holding a copy of the tasks catches up in O(changes) rather than re-reading the table.
+ * <p>
+ * Changes are read in (updatedAt, id) order through {@code idx_updated_at_id}, removals from
+ * the tombstones written by every delete. Both stop at {@code app.sync.settle} before now: a
+ * transaction stamps its rows before it commits, and rows still uncommitted behind the returned
+ * position would otherwise be skipped for good. Tombstones are purged after
+ * {@code app.sync.tombstone-retention}; a token older than that gets a {@code reset} response.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSyncService.class);
+
+    private static final Comparator<Task> BY_UPDATE =
+            Comparator.comparing(Task::getUpdatedAt).thenComparing(Task::getId);
+
+    private static final Comparator<TaskTombstone> BY_DELETION =
+            Comparator.comparing(TaskTombstone::getDeletedAt).thenComparing(TaskTombstone::getTaskId);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskShards shards;
+    private final Clock clock;
+    private final Duration settle;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(TaskRepository taskRepository,
+                           TaskTombstoneRepository tombstoneRepository,
+                           TaskShards shards,
+                           Clock clock,
+                           @Value("${app.sync.settle:PT2S}") Duration settle,
+                           @Value("${app.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.shards = shards;
+        this.clock = clock;
+        this.settle = settle;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Up to {@code limit} changed tasks and up to {@code limit} removed ids after {@code since};
+     * a null {@code since} lists every task.
+     */
+    public TaskChanges getChanges(String since, int limit) {
+        if (limit < 1 || limit > TaskService.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + TaskService.MAX_PAGE_SIZE);
+        }
+
+        LocalDateTime now = now();
+        LocalDateTime until = now.minus(settle);
+        SyncToken token = since != null ? SyncToken.decode(since) : null;
+        // Tombstones after this token may already have been purged
+        boolean reset = token != null && token.getDeletedAt().isBefore(now.minus(tombstoneRetention));
+        if (token == null || reset) {
+            token = SyncToken.initial(until);
+        }
+        log.debug("Fetching changes after {} up to {}, limit: {}", token, until, limit);
+
+        SyncToken after = token;
+        List<Task> changed = TaskShards.merge(shards.query(() -> taskRepository.findChangedAfter(
+                after.getChangedAt(), after.getChangedId(), until, Limit.of(limit + 1))), BY_UPDATE);
+        List<TaskTombstone> removed = TaskShards.merge(shards.query(() -> tombstoneRepository.findAfter(
+                after.getDeletedAt(), after.getDeletedId(), until, Limit.of(limit + 1))), BY_DELETION);
+
+        boolean moreChanged = changed.size() > limit;
+        boolean moreRemoved = removed.size() > limit;
+        List<Task> upserts = moreChanged ? changed.subList(0, limit) : changed;
+        List<TaskTombstone> tombstones = moreRemoved ? removed.subList(0, limit) : removed;
+
+        // A drained side moves up to the read limit, so an idle client's token stays recent
+        SyncToken next = token;
+        if (moreChanged) {
+            Task last = upserts.get(limit - 1);
+            next = next.withChanged(last.getUpdatedAt(), last.getId());
+        } else if (next.getChangedAt().isBefore(until)) {
+            next = next.withChanged(until, Long.MAX_VALUE);
+        }
+        if (moreRemoved) {
+            TaskTombstone last = tombstones.get(limit - 1);
+            next = next.withDeleted(last.getDeletedAt(), last.getTaskId());
+        } else if (next.getDeletedAt().isBefore(until)) {
+            next = next.withDeleted(until, Long.MAX_VALUE);
+        }
+
+        return new TaskChanges(upserts, tombstones.stream().map(TaskTombstone::getTaskId).toList(),
+                next.encode(), moreChanged || moreRemoved, reset);
+    }
+
+    /**
+     * Drops tombstones older than the retention on every shard.
+     *
+     * @return number of tombstones removed
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.sync.purge-interval:PT1H}", initialDelayString = "${app.sync.purge-interval:PT1H}")
+    public long purgeTombstones() {
+        LocalDateTime cutoff = now().minus(tombstoneRetention);
+        long purged = shards.onEachShard(false, shard -> tombstoneRepository.deleteByDeletedAtBefore(cutoff))
+                .stream().mapToLong(Integer::longValue).sum();
+        if (purged > 0) {
+            log.info("Purged {} task tombstones older than {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    private LocalDateTime now() {
+        return Task.timestamp(clock);
+    }
+}
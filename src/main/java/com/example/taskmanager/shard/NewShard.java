@@ -0,0 +1,17 @@
+package com.example.taskmanager.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service call that creates tasks: it runs on the next shard in turn, and the
+ * ids it generates encode that shard. Has no effect unless sharding is enabled.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NewShard {
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanager.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread's data access is routed to. Bound around a unit of work,
+ * before its transaction starts, by {@link ShardRoutingInterceptor} and {@link TaskShards}.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * The bound shard, or null when none is bound.
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static int required() {
+        Integer shard = CURRENT.get();
+        if (shard == null) {
+            throw new IllegalStateException("No shard is bound to the current thread");
+        }
+        return shard;
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> work) {
+        Integer previous = bind(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Binds {@code shard} and returns the previous binding, to be passed to {@link #restore}.
+     */
+    static Integer bind(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
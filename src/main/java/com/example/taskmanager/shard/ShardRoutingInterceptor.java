@@ -0,0 +1,77 @@
+package com.example.taskmanager.shard;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * Binds the shard for calls to {@link NewShard} methods and methods with a {@link ShardKey}
+ * parameter. Must run outside the transaction interceptor: the shard has to be bound
+ * before the transaction fetches its connection.
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private final TaskShards shards;
+
+    public ShardRoutingInterceptor(TaskShards shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Selects the methods this interceptor applies to.
+     */
+    public static StaticMethodMatcherPointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                Method target = AopUtils.getMostSpecificMethod(method, targetClass);
+                return AnnotatedElementUtils.hasAnnotation(target, NewShard.class) || shardKeyIndex(target) >= 0;
+            }
+        };
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Integer shard = shardFor(invocation);
+        if (shard == null) {
+            return invocation.proceed();
+        }
+        Integer previous = ShardContext.bind(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private Integer shardFor(MethodInvocation invocation) {
+        Method method = invocation.getThis() != null
+                ? AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass())
+                : invocation.getMethod();
+        if (AnnotatedElementUtils.hasAnnotation(method, NewShard.class)) {
+            return shards.nextShard();
+        }
+        int index = shardKeyIndex(method);
+        if (index >= 0 && invocation.getArguments()[index] instanceof Long id) {
+            return shards.shardOf(id);
+        }
+        return null;
+    }
+
+    private static int shardKeyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
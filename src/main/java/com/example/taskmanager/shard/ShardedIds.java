@@ -0,0 +1,78 @@
+package com.example.taskmanager.shard;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * Task ids that encode the shard holding the task, so routing a single-id operation
+ * is a bit extraction rather than a lookup.
+ * <p>
+ * Layout, from the most significant bit: 31 bits of seconds since 2024-01-01T00:00Z,
+ * {@value #SHARD_BITS} bits of shard, {@value #WORKER_BITS} bits of worker (one per
+ * application instance) and {@value #SEQUENCE_BITS} bits of sequence. That is 53 bits,
+ * so ids stay exact as JavaScript numbers. When a worker needs more than 4096 ids in
+ * one second it borrows from the next second instead of waiting, which also keeps ids
+ * increasing if the clock steps back.
+ */
+public class ShardedIds implements LongSupplier {
+
+    static final int SEQUENCE_BITS = 12;
+    static final int WORKER_BITS = 4;
+    static final int SHARD_BITS = 6;
+    static final int TIME_BITS = 31;
+
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int MAX_WORKERS = 1 << WORKER_BITS;
+
+    private static final long EPOCH_SECOND = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + WORKER_BITS;
+    private static final int TIME_SHIFT = SHARD_SHIFT + SHARD_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final int worker;
+    private final Clock clock;
+    private long lastSecond = -1;
+    private long sequence;
+
+    public ShardedIds(int worker, Clock clock) {
+        if (worker < 0 || worker >= MAX_WORKERS) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + (MAX_WORKERS - 1));
+        }
+        this.worker = worker;
+        this.clock = clock;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id >>> SHARD_SHIFT) & (MAX_SHARDS - 1);
+    }
+
+    /**
+     * Next id for the shard bound in {@link ShardContext}.
+     */
+    @Override
+    public long getAsLong() {
+        return next(ShardContext.required());
+    }
+
+    public synchronized long next(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard must be between 0 and " + (MAX_SHARDS - 1));
+        }
+        long second = clock.instant().getEpochSecond() - EPOCH_SECOND;
+        if (second > lastSecond) {
+            lastSecond = second;
+            sequence = 0;
+        } else if (++sequence > SEQUENCE_MASK) {
+            lastSecond++;
+            sequence = 0;
+        }
+        if (lastSecond >= 1L << TIME_BITS) {
+            throw new IllegalStateException("Task id time range exhausted");
+        }
+        return lastSecond << TIME_SHIFT
+                | (long) shard << SHARD_SHIFT
+                | (long) worker << SEQUENCE_BITS
+                | sequence;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.taskmanager.shard;
+
+import com.example.taskmanager.config.WorkerThreads;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs work on one or all task shards. With sharding disabled there is a single shard and
+ * every method runs its work inline, in the caller's transaction, so callers need no
+ * separate code path.
+ * <p>
+ * With several shards, fan-out work runs in parallel, one thread and one transaction per
+ * shard, and results come back in shard order. Writes fanned out this way commit shard by
+ * shard: they are not atomic across shards. In virtual-thread mode the fan-out threads are
+ * virtual and unbounded, leaving the shards' connection pools as the only limit.
+ */
+@Component
+public class TaskShards implements DisposableBean {
+
+    private final int count;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public TaskShards(@Value("${app.sharding.urls:}") List<String> urls,
+                      @Value("${app.sharding.fan-out-threads:0}") int fanOutThreads,
+                      PlatformTransactionManager transactionManager,
+                      Environment environment) {
+        this.count = Math.max(1, urls.size());
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (count == 1) {
+            this.executor = null;
+        } else if (WorkerThreads.isVirtual(environment)) {
+            this.executor = Executors.newCachedThreadPool(WorkerThreads.factory("shard-fan-out", true));
+        } else {
+            this.executor = Executors.newFixedThreadPool(fanOutThreads > 0 ? fanOutThreads : 4 * count,
+                    WorkerThreads.factory("shard-fan-out", false));
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * Shard holding the task with this id. Ids naming a shard beyond the configured ones
+     * cannot exist; they are sent to a shard that answers "not found" for them.
+     */
+    public int shardOf(long id) {
+        return isSharded() ? ShardedIds.shardOf(id) % count : 0;
+    }
+
+    /**
+     * Shard for newly created tasks; shards take turns so they fill evenly.
+     */
+    public int nextShard() {
+        return Math.floorMod(nextShard.getAndIncrement(), count);
+    }
+
+    /**
+     * Splits ids by the shard holding them, keeping their order; one list per shard.
+     */
+    public List<List<Long>> partition(Collection<Long> ids) {
+        List<List<Long>> byShard = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (Long id : ids) {
+            byShard.get(shardOf(id)).add(id);
+        }
+        return byShard;
+    }
+
+    /**
+     * Runs a read on every shard; one result per shard, in shard order.
+     */
+    public <T> List<T> query(Supplier<T> query) {
+        return onEachShard(true, shard -> query.get());
+    }
+
+    /**
+     * Runs {@code work} with each shard bound, in parallel, each in its own transaction.
+     * The function receives the shard number, e.g. to pick that shard's ids.
+     */
+    public <T> List<T> onEachShard(boolean readOnly, IntFunction<T> work) {
+        if (!isSharded()) {
+            return List.of(work.apply(0));
+        }
+        TransactionTemplate transaction = readOnly ? readTransaction : writeTransaction;
+        return onEachShard(shard -> transaction.execute(status -> work.apply(shard)));
+    }
+
+    /**
+     * Runs {@code work} with each shard bound, in parallel, without opening a transaction;
+     * for work that commits in several transactions of its own.
+     */
+    public <T> List<T> onEachShard(IntFunction<T> work) {
+        if (!isSharded()) {
+            return List.of(work.apply(0));
+        }
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int bound = shard;
+            futures.add(executor.submit(() -> ShardContext.callOn(bound, () -> work.apply(bound))));
+        }
+        List<T> results = new ArrayList<>(count);
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * Runs a read on every shard in turn on the calling thread, each in its own transaction;
+     * for work that must stay on the caller, such as writing to its output stream.
+     */
+    public <T> List<T> queryInTurn(Supplier<T> query) {
+        if (!isSharded()) {
+            return List.of(query.get());
+        }
+        List<T> results = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            results.add(ShardContext.callOn(shard, () -> readTransaction.execute(status -> query.get())));
+        }
+        return results;
+    }
+
+    /**
+     * Merges per-shard lists that are each sorted by {@code order} into one sorted list.
+     */
+    public static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> order) {
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        record Head<T>(T value, int list, int index) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(sorted.size(), (a, b) -> order.compare(a.value(), b.value()));
+        int total = 0;
+        for (int list = 0; list < sorted.size(); list++) {
+            total += sorted.get(list).size();
+            if (!sorted.get(list).isEmpty()) {
+                heads.add(new Head<>(sorted.get(list).get(0), list, 0));
+            }
+        }
+        List<T> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            List<T> source = sorted.get(head.list());
+            if (head.index() + 1 < source.size()) {
+                heads.add(new Head<>(source.get(head.index() + 1), head.list(), head.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shards", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard query failed", ex.getCause());
+        }
+    }
+}
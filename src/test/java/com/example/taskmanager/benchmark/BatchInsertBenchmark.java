@@ -0,0 +1,97 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares insert throughput of one-task-per-call creation against the batched bulk path.
+ * Run with {@code mvn test -Pbenchmark -Dtest=BatchInsertBenchmark [-Dbenchmark.rows=N]}.
+ */
+@SpringBootTest
+class BatchInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchInsertBenchmark.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int REQUEST_SIZE = 1_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void singleInsertVersusBatchedInsert() {
+        // Warm up both paths so JIT and connection pool effects do not skew the first run
+        insertOneByOne(2_000);
+        insertInBatches(2_000);
+        repository.deleteAllInBatch();
+
+        long singleNanos = insertOneByOne(ROWS);
+        assertEquals(ROWS, repository.count());
+        repository.deleteAllInBatch();
+
+        long batchNanos = insertInBatches(ROWS);
+        assertEquals(ROWS, repository.count());
+
+        log.info("Inserted {} rows", ROWS);
+        log.info("  createTask per row : {} ms, {} rows/s", singleNanos / 1_000_000, rowsPerSecond(singleNanos));
+        log.info("  POST /batch ({}/req): {} ms, {} rows/s", REQUEST_SIZE, batchNanos / 1_000_000, rowsPerSecond(batchNanos));
+        log.info("  speedup            : {}x", String.format("%.1f", (double) singleNanos / batchNanos));
+    }
+
+    private long insertOneByOne(int rows) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            taskService.createTask(sampleTask(i));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long insertInBatches(int rows) {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += REQUEST_SIZE) {
+            int size = Math.min(REQUEST_SIZE, rows - offset);
+            List<Task> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(sampleTask(offset + i));
+            }
+            taskBulkService.createTasks(batch);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static Task sampleTask(int i) {
+        return new Task("Benchmark task " + i, "Generated for insert benchmark",
+                TaskStatus.values()[i % TaskStatus.values().length],
+                i % 5 == 0 ? null : LocalDate.now().plusDays(i % 60 - 30));
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return Math.round(ROWS / (nanos / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares three ways of deleting the same number of tasks:
+ * the old load-then-remove path ({@code findById} + {@code delete}, one transaction per task),
+ * the single-statement {@link TaskService#deleteTask}, and the chunked
+ * {@link TaskBulkService#deleteTasks}. Each strategy deletes its own slice of the seeded rows.
+ * Run with {@code mvn test -Pbenchmark -Dtest=DeleteBenchmark [-Dbenchmark.deletes=N]}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + DeleteBenchmark.JDBC_URL,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class DeleteBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(DeleteBenchmark.class);
+
+    /** H2 would otherwise hand back the previous result for a repeated identical query. */
+    static final String JDBC_URL = "jdbc:h2:mem:delete-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+    private static final int DELETES = Integer.getInteger("benchmark.deletes", 5_000);
+    private static final int BACKGROUND_ROWS = 50_000;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loadThenRemoveVersusSingleStatementVersusChunked() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        seed(BACKGROUND_ROWS);
+
+        // Warm up each path on a small slice so class loading and plan caching are not measured
+        List<Long> warmup = seed(300);
+        warmup.subList(0, 100).forEach(id -> transaction.executeWithoutResult(status -> loadThenRemove(id)));
+        warmup.subList(100, 200).forEach(taskService::deleteTask);
+        taskBulkService.deleteTasks(warmup.subList(200, 300));
+
+        Result loadThenRemove = run(seed(DELETES), ids -> ids.forEach(id ->
+                transaction.executeWithoutResult(status -> loadThenRemove(id))));
+        Result singleStatement = run(seed(DELETES), ids -> ids.forEach(taskService::deleteTask));
+        Result chunked = run(seed(DELETES), taskBulkService::deleteTasks);
+
+        assertEquals(BACKGROUND_ROWS, repository.count());
+        log.info("{} deletes against {} rows", DELETES, BACKGROUND_ROWS + DELETES * 3);
+        log.info("  findById + delete, per task  : {}", loadThenRemove);
+        log.info("  DELETE WHERE id = ?, per task: {}", singleStatement);
+        log.info("  DELETE WHERE id IN, chunked  : {}", chunked);
+    }
+
+    /** The pre-change {@code TaskService.deleteTask}. */
+    private void loadThenRemove(Long id) {
+        Task task = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        repository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
+    }
+
+    private Result run(List<Long> ids, Consumer<List<Long>> delete) {
+        long before = repository.count();
+        statistics.clear();
+        long start = System.nanoTime();
+        delete.accept(ids);
+        long nanos = System.nanoTime() - start;
+        assertEquals(before - ids.size(), repository.count());
+        return new Result(nanos, statistics.getPrepareStatementCount());
+    }
+
+    private List<Long> seed(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += 1_000) {
+            List<Task> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 1_000, count); i++) {
+                batch.add(new Task("Benchmark task " + i, "Description " + i, TaskStatus.TODO, null));
+            }
+            ids.addAll(taskBulkService.createTasks(batch));
+        }
+        return ids;
+    }
+
+    private record Result(long nanos, long statements) {
+
+        @Override
+        public String toString() {
+            return String.format("%8.1f ms, %5d statements", nanos / 1e6, statements);
+        }
+    }
+}
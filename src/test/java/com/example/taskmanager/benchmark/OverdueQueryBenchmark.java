@@ -0,0 +1,137 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskBulkService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the overdue query before and after the composite index:
+ * {@code due_date < ? AND status <> DONE} with only the single-column indexes, versus
+ * {@code status IN (TODO, IN_PROGRESS) AND due_date < ?} on {@code idx_status_due_date}.
+ * The data set is skewed the way a long-lived board is: most past-due rows are DONE.
+ * Run with {@code mvn test -Pbenchmark -Dtest=OverdueQueryBenchmark [-Dbenchmark.rows=N]}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + OverdueQueryBenchmark.JDBC_URL)
+class OverdueQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueQueryBenchmark.class);
+
+    /** H2 would otherwise hand back the previous result for a repeated identical query. */
+    static final String JDBC_URL = "jdbc:h2:mem:overdue-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 25;
+
+    private static final String SELECT_SUMMARY = "SELECT new com.example.taskmanager.dto.TaskSummary("
+            + "t.id, t.title, t.status, t.dueDate, t.createdAt, t.updatedAt) FROM Task t ";
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        LocalDate today = LocalDate.now();
+        for (int offset = 0; offset < ROWS; offset += 1_000) {
+            List<Task> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 1_000, ROWS); i++) {
+                // Two years of history, 98% of it finished, plus a month of upcoming work
+                LocalDate due = today.plusDays(i % 760 - 730);
+                TaskStatus status = due.isBefore(today) && i % 50 != 0
+                        ? TaskStatus.DONE
+                        : (i % 2 == 0 ? TaskStatus.TODO : TaskStatus.IN_PROGRESS);
+                batch.add(new Task("Benchmark task " + i, null, status, due));
+            }
+            taskBulkService.createTasks(batch);
+        }
+        jdbcTemplate.execute("ANALYZE");
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void restoreIndex() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_status_due_date ON tasks (status, due_date, id)");
+    }
+
+    @Test
+    void notEqualOnSingleColumnIndexesVersusInOnCompositeIndex() {
+        LocalDate today = LocalDate.now();
+        Supplier<List<TaskSummary>> composite = () -> readOnly.execute(status -> entityManager
+                .createQuery(SELECT_SUMMARY + "WHERE t.status IN :statuses AND t.dueDate < :date "
+                        + "ORDER BY t.dueDate, t.id", TaskSummary.class)
+                .setParameter("statuses", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .setParameter("date", today)
+                .getResultList());
+        Supplier<List<TaskSummary>> notEqual = () -> readOnly.execute(status -> entityManager
+                .createQuery(SELECT_SUMMARY + "WHERE t.dueDate < :date AND t.status <> :done "
+                        + "ORDER BY t.dueDate, t.id", TaskSummary.class)
+                .setParameter("date", today)
+                .setParameter("done", TaskStatus.DONE)
+                .getResultList());
+
+        long compositeNanos = measure(composite);
+        int overdue = composite.get().size();
+
+        jdbcTemplate.execute("DROP INDEX idx_status_due_date");
+        long baselineNanos = measure(notEqual);
+        assertEquals(overdue, notEqual.get().size());
+
+        log.info("{} rows, {} overdue, median of {} runs", ROWS, overdue, ITERATIONS);
+        log.info("  status <> DONE, single-column indexes : {} ms", String.format("%.2f", baselineNanos / 1e6));
+        log.info("  status IN (...), idx_status_due_date  : {} ms", String.format("%.2f", compositeNanos / 1e6));
+        log.info("  speedup                               : {}x",
+                String.format("%.1f", (double) baselineNanos / compositeNanos));
+    }
+
+    private static long measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2];
+    }
+}
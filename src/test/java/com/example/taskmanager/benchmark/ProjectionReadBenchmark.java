@@ -0,0 +1,140 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskBulkService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the list endpoint's read path before and after the switch to projections:
+ * managed {@link Task} entities versus {@code TaskSummary} rows, each mapped and
+ * serialized to JSON as the controller would.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ProjectionReadBenchmark [-Dbenchmark.rows=N]}.
+ */
+@SpringBootTest
+class ProjectionReadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionReadBenchmark.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final String DESCRIPTION = "x".repeat(400);
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        for (int offset = 0; offset < ROWS; offset += 1_000) {
+            List<Task> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 1_000, ROWS); i++) {
+                batch.add(new Task("Benchmark task " + i, DESCRIPTION,
+                        TaskStatus.values()[i % TaskStatus.values().length],
+                        i % 5 == 0 ? null : LocalDate.now().plusDays(i % 60 - 30)));
+            }
+            taskBulkService.createTasks(batch);
+        }
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void entityReadVersusProjectionRead() {
+        Supplier<byte[]> entityPath = () -> readOnly.execute(status -> serialize(repository.findAll()));
+        Supplier<byte[]> projectionPath = () -> readOnly.execute(status -> serialize(
+                repository.findAllSummaries().stream().map(taskMapper::toResponse).toList()));
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        log.info("Listed {} rows, median of {} runs", ROWS, ITERATIONS);
+        log.info("  entities    : {} ms, {} MB allocated, {} KB response", entity.medianMillis(),
+                entity.allocatedMb(), entity.responseKb);
+        log.info("  projections : {} ms, {} MB allocated, {} KB response", projection.medianMillis(),
+                projection.allocatedMb(), projection.responseKb);
+        log.info("  latency {}x, allocation {}x lower",
+                String.format("%.1f", (double) entity.medianNanos / projection.medianNanos),
+                String.format("%.1f", (double) entity.medianAllocated / projection.medianAllocated));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Result measure(Supplier<byte[]> path) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long[] allocated = new long[ITERATIONS];
+        int size = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            size = path.get().length;
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        assertTrue(size > 0);
+        return new Result(median(nanos), median(allocated), size / 1024);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Result(long medianNanos, long medianAllocated, int responseKb) {
+
+        long medianMillis() {
+            return medianNanos / 1_000_000;
+        }
+
+        long allocatedMb() {
+            return medianAllocated / (1024 * 1024);
+        }
+    }
+}
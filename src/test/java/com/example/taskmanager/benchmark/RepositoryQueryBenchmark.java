@@ -0,0 +1,279 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Times each {@link TaskRepository} query against a large synthetic table and records the
+ * plan H2 chose for every statement it issued. For each mode (in-memory and file-backed H2)
+ * the application is started without a web server, {@link TaskDataGenerator} loads
+ * {@code benchmark.rows} tasks, and every query runs {@code benchmark.iterations} times in
+ * its own read-only transaction. The second-level and query caches are disabled, so every
+ * call reaches the database. The optimized queries the services use are timed next to the
+ * derived ones they replace.
+ * Run with {@code mvn test -Pbenchmark -Dtest=RepositoryQueryBenchmark [-Dbenchmark.rows=N]
+ * [-Dbenchmark.modes=mem,file] [-Dbenchmark.iterations=N]}; from a few million rows on,
+ * add {@code -DargLine=-Xmx8g}, as the whole-table queries materialize every row.
+ */
+class RepositoryQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryQueryBenchmark.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final int WARMUP = 2;
+    private static final List<String> MODES = Arrays.stream(System.getProperty("benchmark.modes", "mem,file")
+            .split(",")).map(String::trim).toList();
+    private static final Map<String, String> URLS = Map.of(
+            // H2 would otherwise hand back the previous result for a repeated identical query
+            "mem", "jdbc:h2:mem:repository-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+            "file", "jdbc:h2:file:./target/repository-benchmark/tasks;OPTIMIZE_REUSE_RESULTS=FALSE");
+
+    /** Statements executed while a plan is being captured; null otherwise. */
+    private static volatile List<Captured> capturing;
+
+    private record Captured(String sql, Map<Integer, Object> parameters) {
+    }
+
+    private record Query(String name, Function<TaskRepository, Object> call) {
+    }
+
+    private record Result(String name, long rows, double p50Millis, double p90Millis, double p99Millis,
+                          double maxMillis, List<String> plans) {
+    }
+
+    @Test
+    void repositoryQueriesAtScale() throws SQLException {
+        LocalDate today = LocalDate.now();
+        EnumSet<TaskStatus> open = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+        String noun = TaskDataGenerator.NOUNS[3];
+        List<Query> queries = List.of(
+                new Query("findByStatus(IN_PROGRESS)", repository -> repository.findByStatus(TaskStatus.IN_PROGRESS)),
+                new Query("findSummariesByStatus(IN_PROGRESS)",
+                        repository -> repository.findSummariesByStatus(TaskStatus.IN_PROGRESS)),
+                new Query("findByDueDateBeforeAndStatusNot(today, DONE)",
+                        repository -> repository.findByDueDateBeforeAndStatusNot(today, TaskStatus.DONE)),
+                new Query("findOverdueSummaries(today, open)", repository -> repository.findOverdueSummaries(today, open)),
+                new Query("findByTitleContainingIgnoreCase(" + noun + ")",
+                        repository -> repository.findByTitleContainingIgnoreCase(noun)),
+                new Query("findAllOrderedByDueDate()", TaskRepository::findAllOrderedByDueDate),
+                new Query("countByStatus(TODO)", repository -> repository.countByStatus(TaskStatus.TODO)),
+                new Query("countGroupedByStatus()", TaskRepository::countGroupedByStatus),
+                new Query("existsByTitleIgnoreCase(missing)",
+                        repository -> repository.existsByTitleIgnoreCase("No such task")));
+
+        for (String mode : MODES) {
+            String url = URLS.get(mode);
+            if (url == null) {
+                throw new IllegalArgumentException("Unknown benchmark mode " + mode + ", expected one of " + URLS.keySet());
+            }
+            List<Result> results = run(url, queries);
+
+            log.info("H2 {}: {} rows, {} runs per query after {} warm-up runs", mode, ROWS, ITERATIONS, WARMUP);
+            log.info("  {}", String.format("%-46s %9s %10s %10s %10s %10s", "query", "rows", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            for (Result result : results) {
+                log.info("  {}", String.format("%-46s %9d %10.2f %10.2f %10.2f %10.2f", result.name(), result.rows(),
+                        result.p50Millis(), result.p90Millis(), result.p99Millis(), result.maxMillis()));
+            }
+            log.info("H2 {} query plans:", mode);
+            for (Result result : results) {
+                log.info("  {}", result.name());
+                result.plans().forEach(plan -> log.info("    {}", plan.replace("\n", "\n    ")));
+            }
+        }
+    }
+
+    private static List<Result> run(String url, List<Query> queries) throws SQLException {
+        ApplicationContextInitializer<ConfigurableApplicationContext> excludeTests = ctx -> ctx.getBeanFactory()
+                .registerSingleton("benchmarkExcludeFilter", new RequestThreadingBenchmark.ExcludeTestConfigurations());
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TaskManagerApplication.class, StatementCapture.class)
+                .web(WebApplicationType.NONE)
+                .initializers(excludeTests)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        // Only in-memory databases get a schema by default
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "app.cache.enabled=false",
+                        "app.counters.reconcile-interval=PT24H",
+                        "app.due-date-index.rebuild-interval=PT24H",
+                        "logging.level.com.example.taskmanager=INFO",
+                        "logging.level.org.hibernate.SQL=INFO")
+                .run()) {
+            DataSource dataSource = context.getBean(DataSource.class);
+            TaskRepository repository = context.getBean(TaskRepository.class);
+            // Straight to the pool, past the statement capture
+            new TaskDataGenerator(dataSource.unwrap(DataSource.class), 42).generate(ROWS);
+            assertEquals(ROWS, repository.count());
+
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+            List<Result> results = new ArrayList<>();
+            for (Query query : queries) {
+                results.add(measure(query, () -> readOnly.execute(status -> query.call().apply(repository)), dataSource));
+            }
+            return results;
+        }
+    }
+
+    private static Result measure(Query query, Supplier<Object> call, DataSource dataSource)
+            throws SQLException {
+        capturing = new ArrayList<>();
+        long rows;
+        List<Captured> statements;
+        try {
+            rows = rows(call.get());
+        } finally {
+            statements = capturing;
+            capturing = null;
+        }
+        List<String> plans = new ArrayList<>();
+        for (Captured statement : statements) {
+            plans.add(explain(dataSource, statement));
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Result(query.name(), rows, percentile(nanos, 0.50) / 1e6, percentile(nanos, 0.90) / 1e6,
+                percentile(nanos, 0.99) / 1e6, nanos[nanos.length - 1] / 1e6, plans);
+    }
+
+    private static String explain(DataSource dataSource, Captured statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        return Boolean.TRUE.equals(result) ? 1 : 0;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    /**
+     * Records the SQL and bound parameters of every query executed while {@link #capturing}
+     * is set, so its plan can be explained with the same values afterwards.
+     */
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        static BeanPostProcessor statementCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capturing(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource capturing(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? capturing(connection) : result);
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) ->
+                    method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                            ? recording(statement, (String) args[0]) : result);
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if (capturing == null) {
+                    return result;
+                }
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.startsWith("execute")) {
+                    List<Captured> captured = capturing;
+                    if (captured != null) {
+                        captured.add(new Captured(sql, new TreeMap<>(parameters)));
+                    }
+                }
+                return result;
+            });
+        }
+
+        /**
+         * Wraps {@code target} so every result of its methods passes through {@code wrap}.
+         */
+        private static <T> T proxy(Class<T> type, T target, Wrap wrap) {
+            return type.cast(Proxy.newProxyInstance(RepositoryQueryBenchmark.class.getClassLoader(), new Class<?>[]{type},
+                    (self, method, args) -> wrap.apply(method, args, invoke(target, method, args))));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        private interface Wrap {
+            Object apply(Method method, Object[] args, Object result);
+        }
+    }
+}
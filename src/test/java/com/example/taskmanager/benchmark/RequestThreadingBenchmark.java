@@ -0,0 +1,230 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskBulkService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares platform-thread and virtual-thread request handling under slow database conditions.
+ * Each mode boots the application on a random port with every JDBC statement delayed by a
+ * simulated latency, then keeps {@code benchmark.concurrency} requests for a task page in
+ * flight for {@code benchmark.duration} seconds at each latency. Platform mode is capped by
+ * Tomcat's 200 request threads; virtual mode only by the connection pool ({@code benchmark.pool}).
+ * Virtual mode needs a Java 21 JVM and is skipped on older ones.
+ * Run with {@code mvn test -Pbenchmark,java21 -Dtest=RequestThreadingBenchmark
+ * [-Dbenchmark.concurrency=N] [-Dbenchmark.pool=N] [-Dbenchmark.latencies=5,20,50] [-Dbenchmark.duration=S]}.
+ */
+class RequestThreadingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestThreadingBenchmark.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int POOL = Integer.getInteger("benchmark.pool", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("benchmark.duration", 10));
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final List<Long> LATENCIES = Arrays.stream(System.getProperty("benchmark.latencies", "5,20,50")
+            .split(",")).map(String::trim).map(Long::valueOf).toList();
+    private static final int TASKS = 1_000;
+
+    /** Added to every statement execution of the running application. */
+    private static volatile long latencyMillis;
+
+    private record Result(String mode, long latencyMillis, int requests, int errors,
+                          double throughput, double p50Millis, double p99Millis) {
+    }
+
+    @Test
+    void platformVersusVirtualThreads() throws InterruptedException {
+        List<Result> results = new ArrayList<>(run("platform", false));
+        if (Runtime.version().feature() >= 21) {
+            results.addAll(run("virtual", true));
+        } else {
+            log.warn("Virtual-thread mode skipped: needs Java 21 (-Pjava21), running on {}", Runtime.version());
+        }
+
+        log.info("{} concurrent clients, pool of {} connections, {} s per run", CONCURRENCY, POOL, DURATION.toSeconds());
+        log.info("  mode      db latency   requests/s      p50 ms      p99 ms   errors");
+        for (Result result : results) {
+            log.info("  {}", String.format("%-9s %7d ms %12.0f %11.1f %11.1f %8d", result.mode(), result.latencyMillis(),
+                    result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+        }
+    }
+
+    private static List<Result> run(String mode, boolean virtual) throws InterruptedException {
+        latencyMillis = 0;
+        ApplicationContextInitializer<ConfigurableApplicationContext> excludeTests = ctx ->
+                ctx.getBeanFactory().registerSingleton("benchmarkExcludeFilter", new ExcludeTestConfigurations());
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TaskManagerApplication.class, StatementLatency.class)
+                .initializers(excludeTests)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL,
+                        "logging.level.com.example.taskmanager=INFO",
+                        "logging.level.org.hibernate.SQL=INFO")
+                .run()) {
+            List<Task> tasks = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                tasks.add(new Task("Benchmark task " + i, null, TaskStatus.values()[i % 3], LocalDate.now().plusDays(i % 60 - 30)));
+            }
+            context.getBean(TaskBulkService.class).createTasks(tasks);
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/api/tasks?limit=20&sort=DUE_DATE")).build();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            List<Result> results = new ArrayList<>();
+            for (long latency : LATENCIES) {
+                latencyMillis = latency;
+                load(client, request, WARMUP, mode, latency);
+                Result result = load(client, request, DURATION, mode, latency);
+                assertEquals(0, result.errors(), mode + " mode failed requests at " + latency + " ms");
+                results.add(result);
+            }
+            return results;
+        } finally {
+            latencyMillis = 0;
+        }
+    }
+
+    /**
+     * Keeps {@link #CONCURRENCY} requests in flight until {@code duration} has passed, then
+     * waits for the last ones.
+     */
+    private static Result load(HttpClient client, HttpRequest request, Duration duration, String mode, long latency)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        ConcurrentLinkedQueue<Long> nanos = new ConcurrentLinkedQueue<>();
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, ex) -> {
+                if (ex == null && response.statusCode() == 200) {
+                    nanos.add(System.nanoTime() - sent);
+                } else {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(CONCURRENCY);
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(mode, latency, sorted.length, errors.get(), sorted.length / (elapsed / 1e9),
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    /**
+     * Delays every statement execution by {@link #latencyMillis} while holding its connection,
+     * as a slow database would.
+     */
+    @TestConfiguration
+    static class StatementLatency {
+
+        @Bean
+        static BeanPostProcessor statementLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? slow(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource slow(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, result ->
+                    result instanceof Connection connection ? proxy(Connection.class, connection, statement ->
+                            statement instanceof Statement ? delayed(statement) : statement) : result);
+        }
+
+        private static Object delayed(Object statement) {
+            List<Class<?>> interfaces = new ArrayList<>();
+            for (Class<?> type = statement.getClass(); type != null; type = type.getSuperclass()) {
+                interfaces.addAll(Arrays.asList(type.getInterfaces()));
+            }
+            return Proxy.newProxyInstance(RequestThreadingBenchmark.class.getClassLoader(),
+                    interfaces.stream().filter(Class::isInterface).distinct().toArray(Class<?>[]::new),
+                    (self, method, args) -> {
+                        if (method.getName().startsWith("execute") && latencyMillis > 0) {
+                            Thread.sleep(latencyMillis);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        /**
+         * Wraps {@code target} so every result of its methods passes through {@code wrap}.
+         */
+        private static <T> T proxy(Class<T> type, T target, UnaryOperator<Object> wrap) {
+            return type.cast(Proxy.newProxyInstance(RequestThreadingBenchmark.class.getClassLoader(), new Class<?>[]{type},
+                    (self, method, args) -> wrap.apply(invoke(target, method, args))));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    /**
+     * The application is started outside the test framework, so keep other tests'
+     * configuration out of its component scan, as {@code @SpringBootTest} does.
+     */
+    static class ExcludeTestConfigurations extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().isAnnotated(TestConfiguration.class.getName());
+        }
+    }
+}
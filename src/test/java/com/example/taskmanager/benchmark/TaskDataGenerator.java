@@ -0,0 +1,145 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+/**
+ * Fills the tasks table with synthetic rows through batched JDBC inserts, bypassing JPA, so
+ * millions of rows load in seconds rather than minutes. Rows follow a long-lived board:
+ * <ul>
+ *   <li>creation times spread over the last two years, more of them recent</li>
+ *   <li>one task in five undated, the rest due up to two months after creation</li>
+ *   <li>past-due work mostly DONE, upcoming work mostly TODO or IN_PROGRESS</li>
+ *   <li>titles drawn from a small vocabulary with a skewed noun frequency, so a title search
+ *       matches a realistic share of rows, plus the id to keep them distinct</li>
+ * </ul>
+ * The same seed always produces the same rows. Tasks written here bypass the application's
+ * caches and in-memory indexes; use it for repository-level measurements only.
+ */
+final class TaskDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDataGenerator.class);
+
+    static final String[] VERBS = {"Review", "Update", "Fix", "Write", "Plan", "Test", "Deploy", "Design",
+            "Document", "Refactor", "Migrate", "Prepare"};
+    /** In falling frequency: the first noun appears in about 29% of the titles, the last in about 4%. */
+    static final String[] NOUNS = {"report", "release", "invoice", "dashboard", "onboarding", "budget",
+            "roadmap", "backlog", "migration", "api", "newsletter", "audit"};
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int COMMIT_INTERVAL = 50_000;
+    private static final int HISTORY_DAYS = 730;
+    private static final String INSERT = "INSERT INTO tasks (id, title, description, status, due_date,"
+            + " created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final DataSource dataSource;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    private final LocalDate today = now.toLocalDate();
+
+    TaskDataGenerator(DataSource dataSource, long seed) {
+        this.dataSource = dataSource;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Appends {@code rows} tasks after the highest existing id, then moves {@code task_seq}
+     * past them so tasks created through JPA afterwards get fresh ids, and refreshes the
+     * planner's statistics.
+     */
+    void generate(int rows) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            long firstId = nextId(connection);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (int i = 0; i < rows; i++) {
+                    bind(insert, firstId + i);
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows - 1) {
+                        insert.executeBatch();
+                    }
+                    if ((i + 1) % COMMIT_INTERVAL == 0) {
+                        connection.commit();
+                    }
+                }
+            }
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE task_seq RESTART WITH "
+                        + (firstId + rows + 2L * Task.ID_ALLOCATION_SIZE));
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+            connection.setAutoCommit(autoCommit);
+        }
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Generated {} tasks in {} ms ({} rows/s)", rows, millis, rows * 1000L / millis);
+    }
+
+    private static long nextId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet max = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM tasks")) {
+            max.next();
+            return max.getLong(1) + 1;
+        }
+    }
+
+    private void bind(PreparedStatement insert, long id) throws SQLException {
+        // Squaring skews towards 0, i.e. towards now
+        double age = random.nextDouble();
+        LocalDateTime createdAt = now.minusMinutes((long) (age * age * HISTORY_DAYS * 24 * 60));
+        LocalDate dueDate = random.nextInt(5) == 0 ? null : createdAt.toLocalDate().plusDays(random.nextInt(61));
+        TaskStatus status = status(dueDate);
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(30 * 24 * 60));
+
+        insert.setLong(1, id);
+        insert.setString(2, VERBS[random.nextInt(VERBS.length)] + " " + noun() + " #" + id);
+        if (random.nextInt(5) < 3) {
+            insert.setString(3, "Generated task " + id + ": " + "details ".repeat(5 + random.nextInt(25)));
+        } else {
+            insert.setNull(3, Types.VARCHAR);
+        }
+        insert.setString(4, status.name());
+        if (dueDate != null) {
+            insert.setDate(5, Date.valueOf(dueDate));
+        } else {
+            insert.setNull(5, Types.DATE);
+        }
+        insert.setTimestamp(6, Timestamp.valueOf(createdAt));
+        insert.setTimestamp(7, Timestamp.valueOf(updatedAt.isAfter(now) ? now : updatedAt));
+    }
+
+    private TaskStatus status(LocalDate dueDate) {
+        int roll = random.nextInt(100);
+        if (dueDate == null) {
+            return roll < 40 ? TaskStatus.TODO : roll < 60 ? TaskStatus.IN_PROGRESS : TaskStatus.DONE;
+        }
+        if (dueDate.isBefore(today)) {
+            return roll < 4 ? TaskStatus.TODO : roll < 10 ? TaskStatus.IN_PROGRESS : TaskStatus.DONE;
+        }
+        return roll < 50 ? TaskStatus.TODO : roll < 85 ? TaskStatus.IN_PROGRESS : TaskStatus.DONE;
+    }
+
+    private String noun() {
+        double skew = random.nextDouble();
+        return NOUNS[(int) (skew * skew * NOUNS.length)];
+    }
+}
@@ -28,6 +28,7 @@ class CorsConfigUnitTest {
         when(corsRegistry.addMapping(anyString())).thenReturn(corsRegistration);
         when(corsRegistration.allowedMethods(any(String[].class))).thenReturn(corsRegistration);
         when(corsRegistration.allowedHeaders(any(String[].class))).thenReturn(corsRegistration);
+        when(corsRegistration.exposedHeaders(any(String[].class))).thenReturn(corsRegistration);
         when(corsRegistration.maxAge(anyLong())).thenReturn(corsRegistration);
         when(corsRegistration.allowedOriginPatterns(any(String[].class))).thenReturn(corsRegistration);
         when(corsRegistration.allowedOrigins(any(String[].class))).thenReturn(corsRegistration);
@@ -110,6 +111,16 @@ class CorsConfigUnitTest {
         verify(corsRegistration).allowedHeaders("*");
     }
 
+    @Test
+    void addCorsMappings_shouldExposeETag() {
+        ReflectionTestUtils.setField(corsConfig, "allowedOrigins", "http://localhost:5173");
+        corsConfig.init();
+        
+        corsConfig.addCorsMappings(corsRegistry);
+        
+        verify(corsRegistration).exposedHeaders("ETag");
+    }
+
     @Test
     void addCorsMappings_shouldSetMaxAge() {
         ReflectionTestUtils.setField(corsConfig, "allowedOrigins", "http://localhost:5173");
@@ -0,0 +1,197 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.datasource.ReadWriteRoutingDataSource;
+import com.example.taskmanager.datasource.ReadYourWritesContext;
+import com.example.taskmanager.datasource.ReadYourWritesFilter;
+import com.example.taskmanager.datasource.ReplicaLagMonitor;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Read/write routing against two independent H2 databases standing in for primary and
+ * replica. The replica gets the primary's schema copied over but none of its rows, so the
+ * rows a read returns show which database served it.
+ */
+@SpringBootTest(properties = {
+    "app.datasource.replica.url=jdbc:h2:mem:replica-routing-test;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.lag-query=SELECT lag_ms FROM replica_lag",
+    "app.datasource.replica.max-lag=PT5S",
+    "app.datasource.replica.read-your-writes-window=PT2S",
+    "app.datasource.replica.check-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class ReadReplicaConfigTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routing;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.update("DELETE FROM tasks");
+
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+        replica.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        replica.update("INSERT INTO tasks (id, title, status, version) VALUES (-1, 'Replica only', 'TODO', 0)");
+
+        monitor.check();
+        clock.advance(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void readOnlyTransactions_shouldBeServedByTheReplica() {
+        assertTrue(routing.useReplica());
+        assertEquals(List.of("Replica only"), titles(taskService.getAllTasks()));
+    }
+
+    @Test
+    void writes_shouldGoToThePrimaryAndPinTheWritersReadsThereForTheWindow() {
+        ReadYourWritesContext writer = new ReadYourWritesContext(null, committedAt -> { });
+        ReadYourWritesContext.callAs(writer,
+                () -> taskService.createTask(new Task("Written", null, TaskStatus.TODO, null)));
+
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class));
+        assertEquals(List.of("Written"), ReadYourWritesContext.callAs(writer, () -> titles(taskService.getAllTasks())));
+        assertEquals(List.of("Replica only"), titles(taskService.getAllTasks()));
+        assertEquals(List.of("Replica only"), ReadYourWritesContext.callAs(
+                new ReadYourWritesContext(null, committedAt -> { }), () -> titles(taskService.getAllTasks())));
+
+        clock.advance(Duration.ofSeconds(3));
+        assertEquals(List.of("Replica only"), ReadYourWritesContext.callAs(writer, () -> titles(taskService.getAllTasks())));
+    }
+
+    @Test
+    void lastWriteCookie_shouldKeepOnlyThatClientsReadsOnThePrimary() throws Exception {
+        Cookie lastWrite = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Written\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().maxAge(ReadYourWritesFilter.COOKIE, 2))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/api/tasks").cookie(lastWrite))
+                .andExpect(jsonPath("$[*].title", contains("Written")));
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(jsonPath("$[*].title", contains("Replica only")))
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE));
+
+        clock.advance(Duration.ofSeconds(3));
+        mockMvc.perform(get("/api/tasks").cookie(lastWrite))
+                .andExpect(jsonPath("$[*].title", contains("Replica only")));
+    }
+
+    @Test
+    void laggingReplica_shouldBeSkippedUntilItCatchesUp() {
+        replica.update("UPDATE replica_lag SET lag_ms = 60000");
+        monitor.check();
+        assertFalse(routing.isReplicaAvailable());
+        assertEquals(List.of(), titles(taskService.getAllTasks()));
+
+        replica.update("UPDATE replica_lag SET lag_ms = 100");
+        monitor.check();
+        assertEquals(List.of("Replica only"), titles(taskService.getAllTasks()));
+    }
+
+    @Test
+    void unreachableReplica_shouldBeSkipped() {
+        replica.execute("DROP TABLE replica_lag");
+        monitor.check();
+
+        assertFalse(routing.useReplica());
+        assertEquals(List.of(), titles(taskService.getAllTasks()));
+    }
+
+    private static List<String> titles(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::title).toList();
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-03-15T10:00:00Z");
+
+        synchronized void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public synchronized Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @TestConfiguration
+    static class ClockOverride {
+
+        @Bean
+        @Primary
+        MutableClock mutableClock() {
+            return new MutableClock();
+        }
+    }
+}
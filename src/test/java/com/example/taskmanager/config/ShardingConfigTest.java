@@ -0,0 +1,177 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.DueDateIndex;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.ShardContext;
+import com.example.taskmanager.shard.ShardRoutingDataSource;
+import com.example.taskmanager.shard.ShardedIds;
+import com.example.taskmanager.shard.TaskShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sharded storage across three independent in-memory H2 databases. Rows are inspected
+ * per shard with plain JDBC, so the tests see where each task was actually written.
+ */
+@SpringBootTest(properties = {
+    "app.sharding.urls=jdbc:h2:mem:shard-test-0;DB_CLOSE_DELAY=-1,"
+            + "jdbc:h2:mem:shard-test-1;DB_CLOSE_DELAY=-1,"
+            + "jdbc:h2:mem:shard-test-2;DB_CLOSE_DELAY=-1"
+})
+class ShardingConfigTest {
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService bulkService;
+
+    @Autowired
+    private TaskShards shards;
+
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
+    @Autowired
+    private DueDateIndex dueDateIndex;
+
+    @Autowired
+    private ShardRoutingDataSource routing;
+
+    @Autowired
+    private Clock clock;
+
+    private JdbcTemplate jdbc;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(routing);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            onShard(shard, () -> jdbc.update("DELETE FROM tasks"));
+        }
+        statusCounters.reconcile();
+        dueDateIndex.rebuild();
+        today = LocalDate.now(clock);
+    }
+
+    @Test
+    void createdTasks_shouldBeSpreadOverTheShardsAndCarryTheirShardInTheId() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 2 * SHARDS; i++) {
+            ids.add(taskService.createTask(new Task("Task " + i, null, TaskStatus.TODO, null)).getId());
+        }
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            List<Long> stored = onShard(shard, () -> jdbc.queryForList("SELECT id FROM tasks", Long.class));
+            assertEquals(2, stored.size(), "tasks on shard " + shard);
+            for (Long id : stored) {
+                assertEquals(shard, ShardedIds.shardOf(id));
+            }
+        }
+        assertEquals(ids.stream().sorted().toList(), ids(taskService.getAllTasks()));
+    }
+
+    @Test
+    void singleTaskOperations_shouldRunOnTheShardNamedByTheId() {
+        List<Task> created = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            created.add(taskService.createTask(new Task("Task " + i, null, TaskStatus.TODO, null)));
+        }
+
+        for (Task task : created) {
+            Long id = task.getId();
+            int shard = ShardedIds.shardOf(id);
+            assertEquals("Task", taskService.getTaskById(id).getTitle().substring(0, 4));
+
+            taskService.updateTaskStatus(id, TaskStatus.IN_PROGRESS);
+            assertEquals("IN_PROGRESS", onShard(shard,
+                    () -> jdbc.queryForObject("SELECT status FROM tasks WHERE id = ?", String.class, id)));
+
+            taskService.deleteTask(id);
+            assertEquals(0, onShard(shard,
+                    () -> jdbc.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, id)));
+            assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(id));
+        }
+    }
+
+    @Test
+    void listQueries_shouldMergeEveryShardInOrder() {
+        Task late = taskService.createTask(new Task("Late", null, TaskStatus.TODO, today.minusDays(1)));
+        taskService.createTask(new Task("Early", null, TaskStatus.IN_PROGRESS, today.minusDays(5)));
+        Task middle = taskService.createTask(new Task("Middle", null, TaskStatus.TODO, today.minusDays(3)));
+        taskService.createTask(new Task("Done", null, TaskStatus.DONE, today.minusDays(4)));
+        Task undated = taskService.createTask(new Task("Undated", null, TaskStatus.TODO, null));
+
+        assertEquals(List.of("Early", "Middle", "Late"), titles(taskService.getOverdueTasks()));
+        assertEquals(Stream.of(late.getId(), middle.getId(), undated.getId()).sorted().toList(),
+                ids(taskService.getTasksByStatus(TaskStatus.TODO)));
+        assertEquals(5, taskService.getStatusSummary().total());
+
+        CursorPage<TaskSummary> first = taskService.getTaskPage(null, TaskSortOrder.DUE_DATE, null, 3);
+        assertEquals(List.of("Early", "Done", "Middle"), titles(first.getItems()));
+        CursorPage<TaskSummary> second = taskService.getTaskPage(
+                null, TaskSortOrder.DUE_DATE, first.getNextCursor(), 3);
+        assertEquals(List.of("Late", "Undated"), titles(second.getItems()));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void bulkWrites_shouldReachEveryShardHoldingTheTasks() {
+        List<Long> batch = bulkService.createTasks(List.of(
+                new Task("Batch 1", null, TaskStatus.TODO, null),
+                new Task("Batch 2", null, TaskStatus.TODO, null)));
+        assertEquals(ShardedIds.shardOf(batch.get(0)), ShardedIds.shardOf(batch.get(1)));
+
+        List<Long> ids = new ArrayList<>(batch);
+        for (int i = 0; i < SHARDS; i++) {
+            ids.add(taskService.createTask(new Task("Single " + i, null, TaskStatus.TODO, null)).getId());
+        }
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setIds(ids);
+        request.setStatus(TaskStatus.DONE);
+        assertEquals(ids.size(), bulkService.updateStatus(request));
+        assertEquals(ids.size(), taskService.getTasksByStatus(TaskStatus.DONE).size());
+
+        assertEquals(ids.size(), bulkService.deleteTasks(ids));
+        assertEquals(List.of(), taskService.getAllTasks());
+        assertEquals(0, taskService.getStatusSummary().total());
+    }
+
+    private <T> T onShard(int shard, Supplier<T> work) {
+        assertTrue(shard < shards.count());
+        return ShardContext.callOn(shard, work);
+    }
+
+    private static List<Long> ids(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::id).toList();
+    }
+
+    private static List<String> titles(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::title).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CacheStatistics;
+import com.example.taskmanager.service.CacheStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CacheController.class)
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Test
+    void getStatistics_shouldReturnRegionCounters() throws Exception {
+        when(cacheStatisticsService.getStatistics()).thenReturn(new CacheStatistics(true, List.of(
+                CacheStatistics.Region.of("tasks", 3, 1, 1, 1))));
+
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled", is(true)))
+                .andExpect(jsonPath("$.regions[0].name", is("tasks")))
+                .andExpect(jsonPath("$.regions[0].hits", is(3)))
+                .andExpect(jsonPath("$.regions[0].hitRatio", is(0.75)));
+    }
+
+    @Test
+    void getStatistics_whenCollectionIsOff_shouldReportDisabled() throws Exception {
+        when(cacheStatisticsService.getStatistics()).thenReturn(CacheStatistics.disabled());
+
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled", is(false)))
+                .andExpect(jsonPath("$.regions", empty()));
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.TaskMapper;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskExportService;
 import com.example.taskmanager.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -22,6 +26,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests for GlobalExceptionHandler.
  */
 @WebMvcTest(TaskController.class)
+@Import(TaskMapper.class)
 class GlobalExceptionHandlerTest {
 
     @Autowired
@@ -30,6 +35,12 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskBulkService taskBulkService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
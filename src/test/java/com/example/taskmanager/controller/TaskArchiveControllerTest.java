@@ -0,0 +1,52 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskArchiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskArchiveController.class)
+@Import(TaskMapper.class)
+class TaskArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskArchiveService archiveService;
+
+    @Test
+    void getArchivedPage_shouldReturnPageAndCursor() throws Exception {
+        TaskSummary task = new TaskSummary(7L, "Shipped", TaskStatus.DONE, null, null, null);
+        when(archiveService.getArchivedPage("abc", 1)).thenReturn(new CursorPage<>(List.of(task), "next"));
+
+        mockMvc.perform(get("/api/tasks/archive").param("limit", "1").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Shipped")))
+                .andExpect(jsonPath("$.nextCursor", is("next")));
+    }
+
+    @Test
+    void getById_whenNotArchived_shouldReturn404() throws Exception {
+        when(archiveService.getArchivedTask(9L)).thenThrow(new ResourceNotFoundException("Archived task not found with id: 9"));
+
+        mockMvc.perform(get("/api/tasks/archive/9"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.BoardGroupBy;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskBoard;
+import com.example.taskmanager.dto.TaskBoardGroup;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskBoardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskBoardController.class)
+@Import(TaskMapper.class)
+class TaskBoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskBoardService boardService;
+
+    @Test
+    void getBoard_shouldReturnGroupsWithCountsItemsAndCursors() throws Exception {
+        TaskSummary task = new TaskSummary(3L, "Overdue", TaskStatus.TODO, LocalDate.of(2024, 1, 1),
+                LocalDateTime.now(), LocalDateTime.now());
+        when(boardService.getBoard(BoardGroupBy.DUEDATE, 1, "over")).thenReturn(new TaskBoard<>(BoardGroupBy.DUEDATE,
+                List.of(new TaskBoardGroup<>("OVERDUE", 4, List.of(task), "next"),
+                        new TaskBoardGroup<>("TODAY", 0, List.of(), null))));
+
+        mockMvc.perform(get("/api/tasks/board").param("groupBy", "DUEDATE").param("limitPerGroup", "1").param("q", "over"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy", is("DUEDATE")))
+                .andExpect(jsonPath("$.groups", hasSize(2)))
+                .andExpect(jsonPath("$.groups[0].key", is("OVERDUE")))
+                .andExpect(jsonPath("$.groups[0].count", is(4)))
+                .andExpect(jsonPath("$.groups[0].items[0].title", is("Overdue")))
+                .andExpect(jsonPath("$.groups[0].nextCursor", is("next")))
+                .andExpect(jsonPath("$.groups[1].items", hasSize(0)));
+    }
+
+    @Test
+    void getGroupPage_shouldReturnTheNextItemsOfTheGroup() throws Exception {
+        TaskSummary task = new TaskSummary(5L, "Later", TaskStatus.DONE, null, LocalDateTime.now(), LocalDateTime.now());
+        when(boardService.getGroupPage(BoardGroupBy.STATUS, "DONE", null, "abc", 20))
+                .thenReturn(new CursorPage<>(List.of(task), null));
+
+        mockMvc.perform(get("/api/tasks/board/DONE").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id", is(5)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getGroupPage_withUnknownGroup_shouldReturn400() throws Exception {
+        when(boardService.getGroupPage(BoardGroupBy.STATUS, "LATER", null, null, 20))
+                .thenThrow(new InvalidRequestException("Unknown STATUS group: LATER"));
+
+        mockMvc.perform(get("/api/tasks/board/LATER"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,23 +1,40 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskStatusSummary;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskExportService;
 import com.example.taskmanager.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -27,6 +44,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Unit tests for TaskController using MockMvc.
  */
 @WebMvcTest(TaskController.class)
+@Import(TaskMapper.class)
 class TaskControllerTest {
 
     @Autowired
@@ -35,14 +53,20 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskBulkService taskBulkService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @Test
     void getAllTasks_shouldReturnAllTasks() throws Exception {
-        Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
-        Task task2 = createTask(2L, "Task 2", TaskStatus.IN_PROGRESS);
-        List<Task> tasks = Arrays.asList(task1, task2);
+        TaskSummary task1 = createSummary(1L, "Task 1", TaskStatus.TODO);
+        TaskSummary task2 = createSummary(2L, "Task 2", TaskStatus.IN_PROGRESS);
+        List<TaskSummary> tasks = Arrays.asList(task1, task2);
 
         when(taskService.getAllTasks()).thenReturn(tasks);
 
@@ -50,14 +74,15 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].title", is("Task 1")))
-                .andExpect(jsonPath("$[1].title", is("Task 2")));
+                .andExpect(jsonPath("$[1].title", is("Task 2")))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
 
         verify(taskService).getAllTasks();
     }
 
     @Test
     void getAllTasks_withStatusFilter_shouldReturnFilteredTasks() throws Exception {
-        Task task = createTask(1L, "TODO Task", TaskStatus.TODO);
+        TaskSummary task = createSummary(1L, "TODO Task", TaskStatus.TODO);
         when(taskService.getTasksByStatus(TaskStatus.TODO)).thenReturn(Arrays.asList(task));
 
         mockMvc.perform(get("/api/tasks")
@@ -70,6 +95,36 @@ class TaskControllerTest {
         verify(taskService, never()).getAllTasks();
     }
 
+    @Test
+    void getTaskPage_withLimit_shouldReturnPageAndCursor() throws Exception {
+        TaskSummary task = createSummary(1L, "Task 1", TaskStatus.TODO);
+        when(taskService.getTaskPage(TaskStatus.TODO, TaskSortOrder.DUE_DATE, null, 1))
+                .thenReturn(new CursorPage<>(List.of(task), "next-token"));
+
+        mockMvc.perform(get("/api/tasks")
+                .param("status", "TODO")
+                .param("sort", "DUE_DATE")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Task 1")))
+                .andExpect(jsonPath("$.nextCursor", is("next-token")));
+
+        verify(taskService, never()).getTasksByStatus(any());
+    }
+
+    @Test
+    void getTaskPage_withBadCursor_shouldReturn400() throws Exception {
+        when(taskService.getTaskPage(null, TaskSortOrder.ID, "bogus", 10))
+                .thenThrow(new InvalidRequestException("Malformed cursor"));
+
+        mockMvc.perform(get("/api/tasks")
+                .param("limit", "10")
+                .param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Malformed cursor")));
+    }
+
     @Test
     void getById_whenTaskExists_shouldReturnTask() throws Exception {
         Task task = createTask(1L, "Test Task", TaskStatus.TODO);
@@ -83,6 +138,56 @@ class TaskControllerTest {
         verify(taskService).getTaskById(1L);
     }
 
+    @Test
+    void getById_shouldReturnStrongETag() throws Exception {
+        Task task = createTask(1L, "Test Task", TaskStatus.TODO);
+        task.setVersion(3L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+
+        verify(taskService, never()).getTaskVersion(any());
+    }
+
+    @Test
+    void getById_withMatchingIfNoneMatch_shouldReturn304WithoutLoadingTask() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"2\", W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    void getById_shouldWriteABufferedStatusBeforeReadingTheVersion() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+
+        InOrder order = inOrder(taskService);
+        order.verify(taskService).writePendingStatus(1L);
+        order.verify(taskService).getTaskVersion(1L);
+    }
+
+    @Test
+    void getById_withStaleIfNoneMatch_shouldReturnTask() throws Exception {
+        Task task = createTask(1L, "Test Task", TaskStatus.TODO);
+        task.setVersion(4L);
+        when(taskService.getTaskVersion(1L)).thenReturn(4L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
     @Test
     void getById_whenTaskNotFound_shouldReturn404() throws Exception {
         when(taskService.getTaskById(999L)).thenThrow(new ResourceNotFoundException("Task not found"));
@@ -96,9 +201,9 @@ class TaskControllerTest {
 
     @Test
     void getOverdueTasks_shouldReturnOverdueTasks() throws Exception {
-        Task overdueTask = createTask(1L, "Overdue", TaskStatus.TODO);
-        overdueTask.setDueDate(LocalDate.now().minusDays(1));
-        
+        TaskSummary overdueTask = new TaskSummary(1L, "Overdue", TaskStatus.TODO,
+                LocalDate.now().minusDays(1), null, null);
+
         when(taskService.getOverdueTasks()).thenReturn(Arrays.asList(overdueTask));
 
         mockMvc.perform(get("/api/tasks/overdue"))
@@ -109,6 +214,69 @@ class TaskControllerTest {
         verify(taskService).getOverdueTasks();
     }
 
+    @Test
+    void getTasksDueToday_shouldReturnTasksDueToday() throws Exception {
+        when(taskService.getTasksDueToday()).thenReturn(List.of(
+                new TaskSummary(4L, "Due today", TaskStatus.IN_PROGRESS, LocalDate.now(), null, null)));
+
+        mockMvc.perform(get("/api/tasks/due-today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(4)));
+    }
+
+    @Test
+    void getStatusSummary_shouldReturnCountsPerStatus() throws Exception {
+        when(taskService.getStatusSummary()).thenReturn(TaskStatusSummary.of(
+                Map.of(TaskStatus.TODO, 3L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 2L)));
+
+        mockMvc.perform(get("/api/tasks/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(6)))
+                .andExpect(jsonPath("$.counts.TODO", is(3)))
+                .andExpect(jsonPath("$.counts.DONE", is(2)));
+    }
+
+    @Test
+    void searchTasks_shouldReturnRankedMatches() throws Exception {
+        when(taskService.searchTasks("report", 20)).thenReturn(Arrays.asList(
+                createTask(2L, "Write report", TaskStatus.TODO),
+                createTask(1L, "Review report draft", TaskStatus.DONE)));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "report"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[1].id", is(1)));
+    }
+
+    @Test
+    void searchTasks_withoutQuery_shouldReturnBadRequest() throws Exception {
+        when(taskService.searchTasks(null, 20))
+                .thenThrow(new InvalidRequestException("Search query must not be blank"));
+
+        mockMvc.perform(get("/api/tasks/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Search query must not be blank")));
+    }
+
+    @Test
+    void exportTasks_shouldStreamNdjson() throws Exception {
+        when(taskExportService.exportTo(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("tasks.ndjson")))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+
+        verify(taskService, never()).getAllTasks();
+    }
+
     @Test
     void create_withValidTask_shouldReturnCreated() throws Exception {
         Task newTask = new Task("New Task", "Description", TaskStatus.TODO, null);
@@ -151,10 +319,62 @@ class TaskControllerTest {
         verify(taskService, never()).createTask(any());
     }
 
+    @Test
+    void createBatch_shouldReturnCreatedIds() throws Exception {
+        List<Task> batch = List.of(
+                new Task("First", null, TaskStatus.TODO, null),
+                new Task("Second", null, TaskStatus.DONE, null));
+        when(taskBulkService.createTasks(anyList())).thenReturn(List.of(10L, 11L));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.ids", contains(10, 11)));
+    }
+
+    @Test
+    void createBatch_withInvalidItem_shouldReturn400WithItemErrors() throws Exception {
+        when(taskBulkService.createTasks(anyList())).thenThrow(new InvalidRequestException(
+                "1 validation error(s) in batch", Map.of("[1].title", "Title is required")));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"ok\"},{\"title\":\"\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Validation Failed")))
+                .andExpect(jsonPath("$.validationErrors['[1].title']", is("Title is required")));
+    }
+
+    @Test
+    void updateStatuses_shouldReturnAffectedCount() throws Exception {
+        when(taskBulkService.updateStatus(any(BulkStatusUpdateRequest.class))).thenReturn(42L);
+
+        mockMvc.perform(patch("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\",\"fromStatus\":\"IN_PROGRESS\",\"dueTo\":\"2024-12-31\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(42)));
+
+        verify(taskService, never()).updateTaskStatus(any(), any());
+    }
+
+    @Test
+    void updateStatuses_withoutTargetStatus_shouldReturn400() throws Exception {
+        mockMvc.perform(patch("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.status", is("Target status is required")));
+
+        verify(taskBulkService, never()).updateStatus(any());
+    }
+
     @Test
     void update_withValidTask_shouldReturnUpdatedTask() throws Exception {
         Task updatedTask = createTask(1L, "Updated Task", TaskStatus.IN_PROGRESS);
-        when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(1L), any(Task.class), isNull())).thenReturn(updatedTask);
 
         mockMvc.perform(put("/api/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -163,13 +383,66 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title", is("Updated Task")))
                 .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
 
-        verify(taskService).updateTask(eq(1L), any(Task.class));
+        verify(taskService).updateTask(eq(1L), any(Task.class), isNull());
+    }
+
+    @Test
+    void update_withIfMatch_shouldPassExpectedVersionAndReturnNewETag() throws Exception {
+        Task updatedTask = createTask(1L, "Updated Task", TaskStatus.IN_PROGRESS);
+        updatedTask.setVersion(6L);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(5L))).thenReturn(updatedTask);
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedTask)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""));
+    }
+
+    @Test
+    void update_withStaleIfMatch_shouldReturn412() throws Exception {
+        Task task = new Task("Updated", "Desc", TaskStatus.TODO, null);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(5L)))
+                .thenThrow(new PreconditionFailedException("Task 1 has changed; current version is 6"));
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status", is(412)));
+    }
+
+    @Test
+    void update_withWeakIfMatch_shouldReturn400() throws Exception {
+        Task task = new Task("Updated", "Desc", TaskStatus.TODO, null);
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "W/\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).updateTask(any(), any(), any());
+    }
+
+    @Test
+    void update_whenConcurrentlyModified_shouldReturn409() throws Exception {
+        Task task = new Task("Updated", "Desc", TaskStatus.TODO, null);
+        when(taskService.updateTask(eq(1L), any(Task.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        mockMvc.perform(put("/api/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isConflict());
     }
 
     @Test
     void update_whenTaskNotFound_shouldReturn404() throws Exception {
         Task task = new Task("Updated", "Desc", TaskStatus.TODO, null);
-        when(taskService.updateTask(eq(999L), any(Task.class)))
+        when(taskService.updateTask(eq(999L), any(Task.class), isNull()))
                 .thenThrow(new ResourceNotFoundException("Task not found"));
 
         mockMvc.perform(put("/api/tasks/999")
@@ -177,7 +450,7 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isNotFound());
 
-        verify(taskService).updateTask(eq(999L), any(Task.class));
+        verify(taskService).updateTask(eq(999L), any(Task.class), isNull());
     }
 
     @Test
@@ -194,24 +467,75 @@ class TaskControllerTest {
     }
 
     @Test
-    void delete_shouldReturnNoContent() throws Exception {
-        doNothing().when(taskService).deleteTask(1L);
+    void patch_withMergePatch_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":\"Renamed\",\"dueDate\":null}"))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).patchTask(eq(1L), argThat(node ->
+                node.get("title").asText().equals("Renamed") && node.get("dueDate").isNull()), isNull());
+    }
+
+    @Test
+    void patch_withStaleIfMatch_shouldReturn412() throws Exception {
+        doThrow(new PreconditionFailedException("Task 1 is no longer at version 2"))
+                .when(taskService).patchTask(eq(1L), any(), eq(2L));
+
+        mockMvc.perform(patch("/api/tasks/1")
+                .header("If-Match", "\"2\"")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
 
+    @Test
+    void patch_whenTaskNotFound_shouldReturn404() throws Exception {
+        doThrow(new ResourceNotFoundException("Task not found with id: 999"))
+                .when(taskService).patchTask(eq(999L), any(), isNull());
+
+        mockMvc.perform(patch("/api/tasks/999")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void delete_shouldReturnNoContent() throws Exception {
         mockMvc.perform(delete("/api/tasks/1"))
                 .andExpect(status().isNoContent());
 
-        verify(taskService).deleteTask(1L);
+        verify(taskService).deleteTask(1L, null);
+    }
+
+    @Test
+    void delete_withIfMatch_shouldPassExpectedVersion() throws Exception {
+        mockMvc.perform(delete("/api/tasks/1").header("If-Match", "\"7\""))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).deleteTask(1L, 7L);
     }
 
     @Test
     void delete_whenTaskNotFound_shouldReturn404() throws Exception {
         doThrow(new ResourceNotFoundException("Task not found"))
-                .when(taskService).deleteTask(999L);
+                .when(taskService).deleteTask(999L, null);
 
         mockMvc.perform(delete("/api/tasks/999"))
                 .andExpect(status().isNotFound());
 
-        verify(taskService).deleteTask(999L);
+        verify(taskService).deleteTask(999L, null);
+    }
+
+    @Test
+    void deleteTasks_withIds_shouldReturnDeletedCount() throws Exception {
+        when(taskBulkService.deleteTasks(List.of(1L, 2L, 3L))).thenReturn(2L);
+
+        mockMvc.perform(delete("/api/tasks").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+
+        verify(taskService, never()).deleteTask(any(), any());
     }
 
     // Helper method
@@ -220,4 +544,8 @@ class TaskControllerTest {
         task.setId(id);
         return task;
     }
+
+    private TaskSummary createSummary(Long id, String title, TaskStatus status) {
+        return new TaskSummary(id, title, status, LocalDate.now().plusDays(1), null, null);
+    }
 }
\ No newline at end of file
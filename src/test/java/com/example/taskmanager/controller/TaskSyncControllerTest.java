@@ -0,0 +1,54 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskChanges;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskSyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskSyncController.class)
+class TaskSyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskSyncService syncService;
+
+    @Test
+    void getChanges_shouldReturnUpsertsTombstonesAndNextToken() throws Exception {
+        Task task = new Task("Changed", null, TaskStatus.DONE, null);
+        task.setId(7L);
+        when(syncService.getChanges("abc", 100))
+                .thenReturn(new TaskChanges(List.of(task), List.of(9L), "next", false, false));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "abc").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserts", hasSize(1)))
+                .andExpect(jsonPath("$.upserts[0].title", is("Changed")))
+                .andExpect(jsonPath("$.deletedIds[0]", is(9)))
+                .andExpect(jsonPath("$.nextToken", is("next")))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.reset", is(false)));
+    }
+
+    @Test
+    void getChanges_withMalformedToken_shouldReturn400() throws Exception {
+        when(syncService.getChanges("bad", 500)).thenThrow(new InvalidRequestException("Malformed sync token"));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -4,6 +4,7 @@ import com.example.taskmanager.exception.ErrorResponse;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.DueDateIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,9 @@ class TaskControllerEnhancedIT {
     @Autowired
     private TaskRepository repository;
 
+    @Autowired
+    private DueDateIndex dueDateIndex;
+
     @LocalServerPort
     private int port;
 
@@ -167,6 +171,9 @@ class TaskControllerEnhancedIT {
         done.setDueDate(LocalDate.now().minusDays(2));
         repository.save(done);
 
+        // Writes through the repository reach the due-date index at its next rebuild
+        dueDateIndex.rebuild();
+
         ResponseEntity<Task[]> response = rest.getForEntity("/api/tasks/overdue", Task[].class);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -175,6 +182,36 @@ class TaskControllerEnhancedIT {
         assertEquals("Overdue Task", response.getBody()[0].getTitle());
     }
 
+    @Test
+    void getTasksDueToday_shouldReturnOnlyOpenTasksDueToday() {
+        Task today = new Task();
+        today.setTitle("Today Task");
+        today.setStatus(TaskStatus.IN_PROGRESS);
+        today.setDueDate(LocalDate.now());
+        repository.save(today);
+
+        Task doneToday = new Task();
+        doneToday.setTitle("Done Today Task");
+        doneToday.setStatus(TaskStatus.DONE);
+        doneToday.setDueDate(LocalDate.now());
+        repository.save(doneToday);
+
+        Task overdue = new Task();
+        overdue.setTitle("Overdue Task");
+        overdue.setStatus(TaskStatus.TODO);
+        overdue.setDueDate(LocalDate.now().minusDays(1));
+        repository.save(overdue);
+
+        dueDateIndex.rebuild();
+
+        ResponseEntity<Task[]> response = rest.getForEntity("/api/tasks/due-today", Task[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().length);
+        assertEquals("Today Task", response.getBody()[0].getTitle());
+    }
+
     @Test
     void filterByStatus_withMultipleStatuses_shouldReturnCorrectTasks() {
         // Create tasks with different statuses
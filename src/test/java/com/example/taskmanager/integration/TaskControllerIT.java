@@ -1,9 +1,11 @@
 package com.example.taskmanager.integration;
 
+import com.example.taskmanager.dto.TaskStatusSummary;
 import com.example.taskmanager.exception.ErrorResponse;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskStatusCounters;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -28,6 +30,9 @@ public class TaskControllerIT {
     @Autowired
     private TaskRepository repository;
 
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
@@ -170,6 +175,118 @@ public class TaskControllerIT {
         }
     }
 
+    @Test
+    void shouldKeepSearchIndexInSyncWithWrites() {
+        Task task = createSampleTask();
+        task.setTitle("Quarterly invoice run");
+        Task created = rest.postForEntity("/api/tasks", task, Task.class).getBody();
+        assertNotNull(created);
+
+        Task[] hits = rest.getForObject("/api/tasks/search?q=invoice", Task[].class);
+        assertEquals(1, hits.length);
+        assertEquals(created.getId(), hits[0].getId());
+
+        created.setTitle("Quarterly payroll run");
+        rest.exchange("/api/tasks/" + created.getId(), HttpMethod.PUT, new HttpEntity<>(created), Task.class);
+        assertEquals(0, rest.getForObject("/api/tasks/search?q=invoice", Task[].class).length);
+        assertEquals(1, rest.getForObject("/api/tasks/search?q=payroll", Task[].class).length);
+
+        rest.delete("/api/tasks/" + created.getId());
+        assertEquals(0, rest.getForObject("/api/tasks/search?q=payroll", Task[].class).length);
+    }
+
+    @Test
+    void shouldApplyMergePatch() {
+        Task task = repository.save(createSampleTask());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+
+        ResponseEntity<Void> response = rest.exchange("/api/tasks/" + task.getId(), HttpMethod.PATCH,
+                new HttpEntity<>("{\"title\":\"Patched\",\"dueDate\":null}", headers), Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        Task patched = repository.findById(task.getId()).orElseThrow();
+        assertEquals("Patched", patched.getTitle());
+        assertNull(patched.getDueDate());
+        assertEquals("Test description", patched.getDescription());
+        assertEquals(1, rest.getForObject("/api/tasks/search?q=patched", Task[].class).length);
+
+        ResponseEntity<ErrorResponse> invalid = rest.exchange("/api/tasks/" + task.getId(), HttpMethod.PATCH,
+                new HttpEntity<>("{\"title\":\"\"}", headers), ErrorResponse.class);
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode());
+        assertEquals("Title is required", invalid.getBody().getValidationErrors().get("title"));
+
+        ResponseEntity<ErrorResponse> missing = rest.exchange("/api/tasks/-1", HttpMethod.PATCH,
+                new HttpEntity<>("{\"title\":\"Patched\"}", headers), ErrorResponse.class);
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+    }
+
+    @Test
+    void shouldHonourConditionalRequests() {
+        Task task = repository.save(createSampleTask());
+        String url = "/api/tasks/" + task.getId();
+
+        ResponseEntity<Task> first = rest.getForEntity(url, Task.class);
+        String etag = first.getHeaders().getETag();
+        assertEquals("\"0\"", etag);
+
+        HttpHeaders ifNoneMatch = new HttpHeaders();
+        ifNoneMatch.setIfNoneMatch(etag);
+        ResponseEntity<String> notModified = rest.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch), String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.setIfMatch(etag);
+        Task changes = first.getBody();
+        changes.setTitle("Updated once");
+        ResponseEntity<Task> updated = rest.exchange(url, HttpMethod.PUT, new HttpEntity<>(changes, ifMatch), Task.class);
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertEquals("\"1\"", updated.getHeaders().getETag());
+
+        // A second writer still holding the original ETag loses
+        changes.setTitle("Lost update");
+        ResponseEntity<ErrorResponse> stalePut = rest.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(changes, ifMatch), ErrorResponse.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stalePut.getStatusCode());
+
+        HttpHeaders stalePatchHeaders = new HttpHeaders(ifMatch);
+        stalePatchHeaders.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+        ResponseEntity<ErrorResponse> stalePatch = rest.exchange(url, HttpMethod.PATCH,
+                new HttpEntity<>("{\"title\":\"Lost patch\"}", stalePatchHeaders), ErrorResponse.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stalePatch.getStatusCode());
+
+        ResponseEntity<ErrorResponse> staleDelete = rest.exchange(url, HttpMethod.DELETE,
+                new HttpEntity<>(ifMatch), ErrorResponse.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, staleDelete.getStatusCode());
+        assertEquals("Updated once", repository.findById(task.getId()).orElseThrow().getTitle());
+
+        ResponseEntity<Task> changed = rest.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch), Task.class);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals("Updated once", changed.getBody().getTitle());
+    }
+
+    @Test
+    void shouldKeepStatusSummaryInStepWithWrites() {
+        // Writes through the repository bypass the counters; re-count once
+        repository.save(createSampleTask());
+        statusCounters.reconcile();
+
+        Task created = rest.postForEntity("/api/tasks", createSampleTask(), Task.class).getBody();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+        rest.exchange("/api/tasks/" + created.getId(), HttpMethod.PATCH,
+                new HttpEntity<>("{\"status\":\"DONE\"}", headers), Void.class);
+        Task removed = rest.postForEntity("/api/tasks", createSampleTask(), Task.class).getBody();
+        rest.delete("/api/tasks/" + removed.getId());
+
+        TaskStatusSummary summary = rest.getForObject("/api/tasks/summary", TaskStatusSummary.class);
+        assertEquals(2, summary.total());
+        assertEquals(1L, summary.counts().get(TaskStatus.TODO));
+        assertEquals(0L, summary.counts().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, summary.counts().get(TaskStatus.DONE));
+    }
+
     // Helper methods
     private Task createSampleTask() {
         Task task = new Task();
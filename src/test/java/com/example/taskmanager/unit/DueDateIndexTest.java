@@ -0,0 +1,98 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.DueDateIndex;
+import com.example.taskmanager.shard.TaskShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({DueDateIndex.class, TaskShards.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DueDateIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private DueDateIndex index;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        index.rebuild();
+    }
+
+    @Test
+    void rebuild_shouldIndexOpenDatedTasksOnly() {
+        Task older = repository.save(new Task("Older", null, TaskStatus.TODO, TODAY.minusDays(3)));
+        Task recent = repository.save(new Task("Recent", null, TaskStatus.IN_PROGRESS, TODAY.minusDays(1)));
+        Task due = repository.save(new Task("Due", null, TaskStatus.TODO, TODAY));
+        repository.save(new Task("Done", null, TaskStatus.DONE, TODAY.minusDays(2)));
+        repository.save(new Task("Undated", null, TaskStatus.TODO, null));
+        repository.save(new Task("Later", null, TaskStatus.TODO, TODAY.plusDays(1)));
+
+        index.rebuild();
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new long[] {older.getId(), recent.getId()}, index.overdue(TODAY));
+        assertArrayEquals(new long[] {due.getId()}, index.dueOn(TODAY));
+        assertEquals(0, index.dueOn(TODAY.minusDays(2)).length);
+    }
+
+    @Test
+    void onTaskChanged_shouldMoveTasksBetweenDays() {
+        Task first = new Task("First", null, TaskStatus.TODO, TODAY);
+        first.setId(2L);
+        Task second = new Task("Second", null, TaskStatus.TODO, TODAY);
+        second.setId(1L);
+        index.onTaskChanged(TaskChangedEvent.created(first));
+        index.onTaskChanged(TaskChangedEvent.created(second));
+        assertArrayEquals(new long[] {1L, 2L}, index.dueOn(TODAY));
+
+        first.setDueDate(TODAY.minusDays(1));
+        index.onTaskChanged(TaskChangedEvent.updated(first));
+        assertArrayEquals(new long[] {2L}, index.overdue(TODAY));
+        assertArrayEquals(new long[] {1L}, index.dueOn(TODAY));
+
+        second.setStatus(TaskStatus.DONE);
+        index.onTaskChanged(TaskChangedEvent.updated(second));
+        index.onTaskChanged(TaskChangedEvent.deleted(2L));
+        assertEquals(0, index.size());
+        assertEquals(0, index.overdue(TODAY.plusDays(10)).length);
+    }
+
+    @Test
+    void overdue_shouldFollowTheDateItIsAskedFor() {
+        Task task = new Task("Tomorrow", null, TaskStatus.TODO, TODAY.plusDays(1));
+        task.setId(7L);
+        index.onTaskChanged(TaskChangedEvent.created(task));
+
+        assertEquals(0, index.overdue(TODAY).length);
+        assertEquals(0, index.overdue(TODAY.plusDays(1)).length);
+        assertArrayEquals(new long[] {7L}, index.overdue(TODAY.plusDays(2)));
+    }
+
+    @Test
+    void onTaskChanged_withoutTask_shouldReadTheCommittedRow() {
+        Task task = repository.save(new Task("Patched", null, TaskStatus.TODO, TODAY.minusDays(1)));
+
+        index.onTaskChanged(TaskChangedEvent.updated(task.getId()));
+
+        assertArrayEquals(new long[] {task.getId()}, index.overdue(TODAY));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.shard.ShardContext;
+import com.example.taskmanager.shard.ShardedIds;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedIdsTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void next_shouldEncodeTheShard() {
+        ShardedIds ids = new ShardedIds(3, CLOCK);
+
+        assertEquals(5, ShardedIds.shardOf(ids.next(5)));
+        assertEquals(63, ShardedIds.shardOf(ids.next(63)));
+        assertEquals(0, ShardedIds.shardOf(ids.next(0)));
+    }
+
+    @Test
+    void next_shouldBorrowTheNextSecondWhenTheSequenceRunsOut() {
+        ShardedIds ids = new ShardedIds(0, CLOCK);
+
+        long previous = ids.next(1);
+        for (int i = 0; i < 10_000; i++) {
+            long id = ids.next(1);
+            assertTrue(id > previous);
+            assertEquals(1, ShardedIds.shardOf(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    void ids_shouldBeExactJavaScriptNumbers() {
+        ShardedIds ids = new ShardedIds(ShardedIds.MAX_WORKERS - 1,
+                Clock.fixed(Instant.parse("2090-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        assertTrue(ids.next(ShardedIds.MAX_SHARDS - 1) < 1L << 53);
+    }
+
+    @Test
+    void getAsLong_shouldUseTheBoundShardAndRequireOne() {
+        ShardedIds ids = new ShardedIds(0, CLOCK);
+
+        assertEquals(2, ShardedIds.shardOf(ShardContext.callOn(2, ids::getAsLong)));
+        assertThrows(IllegalStateException.class, ids::getAsLong);
+    }
+
+    @Test
+    void constructor_shouldRejectOutOfRangeWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedIds(ShardedIds.MAX_WORKERS, CLOCK));
+    }
+}
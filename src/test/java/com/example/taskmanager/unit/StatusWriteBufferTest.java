@@ -0,0 +1,184 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.StatusWriteBuffer;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write-behind with a flush interval long enough that only explicit flushes write,
+ * so the buffered state can be inspected before and after.
+ */
+@SpringBootTest(properties = {
+    "app.status-write-behind.enabled=true",
+    "app.status-write-behind.flush-interval=PT1H",
+    "app.status-write-behind.flush-size=1000",
+    "app.status-write-behind.max-pending=1000"
+})
+class StatusWriteBufferTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService bulkService;
+
+    @Autowired
+    private StatusWriteBuffer statusBuffer;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        statusBuffer.flush();
+        repository.deleteAll();
+        statusCounters.reconcile();
+    }
+
+    @Test
+    void statusChanges_shouldBeCoalescedAndWrittenOnceOnFlush() {
+        Task task = taskService.createTask(new Task("Flip", null, TaskStatus.TODO, null));
+        long version = task.getVersion();
+
+        taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS);
+        taskService.updateTaskStatus(task.getId(), TaskStatus.TODO);
+        Task acknowledged = taskService.updateTaskStatus(task.getId(), TaskStatus.DONE);
+
+        assertEquals(TaskStatus.DONE, acknowledged.getStatus());
+        assertEquals("TODO", storedStatus(task.getId()));
+        assertEquals(1, statusBuffer.pendingCount());
+
+        assertEquals(1, statusBuffer.flush());
+
+        assertEquals("DONE", storedStatus(task.getId()));
+        assertEquals(version + 1, taskService.getTaskVersion(task.getId()));
+        assertEquals(1L, statusCounters.snapshot().get(TaskStatus.DONE));
+        assertEquals(0, statusBuffer.pendingCount());
+    }
+
+    @Test
+    void reads_shouldSeePendingStatuses() {
+        Task moving = taskService.createTask(new Task("Moving", null, TaskStatus.TODO, null));
+        Task staying = taskService.createTask(new Task("Staying", null, TaskStatus.TODO, null));
+
+        taskService.updateTaskStatus(moving.getId(), TaskStatus.DONE);
+
+        assertEquals(TaskStatus.DONE, taskService.getTaskById(moving.getId()).getStatus());
+        assertEquals(List.of(staying.getId()), ids(taskService.getTasksByStatus(TaskStatus.TODO)));
+        assertEquals(List.of(moving.getId()), ids(taskService.getTasksByStatus(TaskStatus.DONE)));
+        assertEquals(List.of(TaskStatus.DONE, TaskStatus.TODO),
+                taskService.getAllTasks().stream().map(TaskSummary::status).toList());
+        assertEquals("TODO", storedStatus(moving.getId()));
+    }
+
+    @Test
+    void writePendingStatus_shouldMoveTheVersionPastTheBufferedChange() {
+        Task task = taskService.createTask(new Task("Tagged", null, TaskStatus.TODO, null));
+        long version = task.getVersion();
+
+        taskService.updateTaskStatus(task.getId(), TaskStatus.DONE);
+        assertEquals(version, taskService.getTaskVersion(task.getId()));
+
+        taskService.writePendingStatus(task.getId());
+
+        assertEquals("DONE", storedStatus(task.getId()));
+        assertEquals(version + 1, taskService.getTaskVersion(task.getId()));
+        assertEquals(0, statusBuffer.pendingCount());
+        assertEquals(1L, statusCounters.snapshot().get(TaskStatus.DONE));
+    }
+
+    @Test
+    void otherWrites_shouldTakeThePendingStatusOver() throws Exception {
+        Task patched = taskService.createTask(new Task("Patched", null, TaskStatus.TODO, null));
+        Task deleted = taskService.createTask(new Task("Deleted", null, TaskStatus.TODO, null));
+
+        taskService.updateTaskStatus(patched.getId(), TaskStatus.IN_PROGRESS);
+        taskService.updateTaskStatus(deleted.getId(), TaskStatus.DONE);
+        taskService.patchTask(patched.getId(), objectMapper.readTree("{\"title\": \"Renamed\"}"));
+        taskService.deleteTask(deleted.getId());
+
+        assertEquals("IN_PROGRESS", storedStatus(patched.getId()));
+        assertEquals(0, statusBuffer.pendingCount());
+        assertEquals(0, statusBuffer.flush());
+    }
+
+    @Test
+    void statusSummary_shouldCountPendingStatuses() {
+        Task moving = taskService.createTask(new Task("Moving", null, TaskStatus.TODO, null));
+        taskService.createTask(new Task("Staying", null, TaskStatus.TODO, null));
+
+        taskService.updateTaskStatus(moving.getId(), TaskStatus.IN_PROGRESS);
+        taskService.updateTaskStatus(moving.getId(), TaskStatus.DONE);
+
+        Map<TaskStatus, Long> expected = Map.of(TaskStatus.TODO, 1L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L);
+        assertEquals(expected, taskService.getStatusSummary().counts());
+        assertEquals(2L, statusCounters.snapshot().get(TaskStatus.TODO));
+
+        statusBuffer.flush();
+        assertEquals(expected, taskService.getStatusSummary().counts());
+    }
+
+    @Test
+    void bulkWrites_shouldTakeThePendingStatusOver() {
+        Task moved = taskService.createTask(new Task("Moved", null, TaskStatus.TODO, null));
+        Task deleted = taskService.createTask(new Task("Deleted", null, TaskStatus.TODO, null));
+        taskService.updateTaskStatus(moved.getId(), TaskStatus.IN_PROGRESS);
+        taskService.updateTaskStatus(deleted.getId(), TaskStatus.IN_PROGRESS);
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setIds(List.of(moved.getId()));
+        assertEquals(1, bulkService.updateStatus(request));
+        bulkService.deleteTasks(List.of(deleted.getId()));
+
+        assertEquals(0, statusBuffer.pendingCount());
+        assertEquals(TaskStatus.DONE, taskService.getTaskById(moved.getId()).getStatus());
+        assertEquals(0, statusBuffer.flush());
+        assertEquals("DONE", storedStatus(moved.getId()));
+    }
+
+    @Test
+    void flush_shouldDropChangesSupersededByWritesOutsideTheService() {
+        Task task = taskService.createTask(new Task("Raced", null, TaskStatus.TODO, null));
+        taskService.updateTaskStatus(task.getId(), TaskStatus.DONE);
+
+        jdbc.update("UPDATE tasks SET status = 'IN_PROGRESS', version = version + 1 WHERE id = ?", task.getId());
+
+        assertEquals(0, statusBuffer.flush());
+        assertEquals("IN_PROGRESS", storedStatus(task.getId()));
+    }
+
+    private String storedStatus(Long id) {
+        return jdbc.queryForObject("SELECT status FROM tasks WHERE id = ?", String.class, id);
+    }
+
+    private static List<Long> ids(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::id).toList();
+    }
+}
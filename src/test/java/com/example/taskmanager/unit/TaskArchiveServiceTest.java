@@ -0,0 +1,134 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.ClockConfig;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.ArchivedTask;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.ArchivedTaskRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskArchiveService;
+import com.example.taskmanager.service.TaskArchiver;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.TaskShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every chunk commits on its own, as in the running application.
+ */
+@DataJpaTest
+@Import({TaskArchiveService.class, TaskStatusCounters.class, TaskShards.class, ClockConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TaskArchiveService archiveService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archiveRepository;
+
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
+    @Autowired
+    private TaskShards shards;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private Clock clock;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        archiveRepository.deleteAll();
+        statusCounters.reconcile();
+        now = LocalDateTime.now(clock);
+    }
+
+    @Test
+    void archiveChunk_shouldMoveOnlyOldDoneTasks() {
+        Task old = save("Old", TaskStatus.DONE, now.minusDays(40));
+        Task recent = save("Recent", TaskStatus.DONE, now.minusDays(1));
+        Task open = save("Open", TaskStatus.IN_PROGRESS, now.minusDays(40));
+        statusCounters.reconcile();
+
+        assertEquals(1, archiveService.archiveChunk(now.minusDays(30), 10));
+
+        assertFalse(taskRepository.existsById(old.getId()));
+        assertTrue(taskRepository.existsById(recent.getId()));
+        assertTrue(taskRepository.existsById(open.getId()));
+        ArchivedTask archived = archiveService.getArchivedTask(old.getId());
+        assertEquals("Old", archived.getTitle());
+        assertEquals(LocalDate.of(2024, 1, 1), archived.getDueDate());
+        assertEquals(TaskStatus.DONE, archived.getStatus());
+        assertNotNull(archived.getArchivedAt());
+        assertEquals(1L, statusCounters.snapshot().get(TaskStatus.DONE));
+    }
+
+    @Test
+    void archiver_shouldWorkInBoundedChunksUpToTheRunLimit() {
+        for (int i = 0; i < 7; i++) {
+            save("Done " + i, TaskStatus.DONE, now.minusDays(40));
+        }
+        TaskArchiver archiver = new TaskArchiver(archiveService, shards, clock,
+                Duration.ofDays(30), 2, Duration.ZERO, 5);
+
+        assertEquals(5, archiver.archive());
+        assertEquals(2, taskRepository.count());
+        assertEquals(2, archiver.archive());
+        assertEquals(0, archiver.archive());
+        assertEquals(7, archiveRepository.count());
+    }
+
+    @Test
+    void getArchivedPage_shouldPageInIdOrder() {
+        for (int i = 0; i < 3; i++) {
+            save("Done " + i, TaskStatus.DONE, now.minusDays(40));
+        }
+        archiveService.archiveChunk(now, 10);
+
+        CursorPage<TaskSummary> first = archiveService.getArchivedPage(null, 2);
+        assertEquals(List.of("Done 0", "Done 1"), first.getItems().stream().map(TaskSummary::title).toList());
+        CursorPage<TaskSummary> second = archiveService.getArchivedPage(first.getNextCursor(), 2);
+        assertEquals(List.of("Done 2"), second.getItems().stream().map(TaskSummary::title).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getArchivedTask_whenNotArchived_shouldThrow() {
+        Task task = save("Live", TaskStatus.DONE, now);
+
+        assertThrows(ResourceNotFoundException.class, () -> archiveService.getArchivedTask(task.getId()));
+    }
+
+    private Task save(String title, TaskStatus status, LocalDateTime updatedAt) {
+        Task task = taskRepository.save(new Task(title, null, status, LocalDate.of(2024, 1, 1)));
+        jdbc.update("UPDATE tasks SET updated_at = ? WHERE id = ?", Timestamp.valueOf(updatedAt), task.getId());
+        return task;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.ClockConfig;
+import com.example.taskmanager.dto.BoardGroupBy;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskBoard;
+import com.example.taskmanager.dto.TaskBoardGroup;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.StatusWriteBuffer;
+import com.example.taskmanager.service.TaskBoardService;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.TaskShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction, so the status counters' reconciliation sees the saved tasks.
+ */
+@DataJpaTest
+@Import({TaskBoardService.class, TaskStatusCounters.class, StatusWriteBuffer.class, TaskShards.class, ClockConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskBoardServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskBoardService boardService;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void getBoard_byStatus_shouldCountEveryGroupAndListItsFirstItems() {
+        Task undated = save("Undated", TaskStatus.TODO, null);
+        Task later = save("Later", TaskStatus.TODO, TODAY.plusDays(3));
+        Task sooner = save("Sooner", TaskStatus.TODO, TODAY.plusDays(1));
+        Task done = save("Done", TaskStatus.DONE, TODAY);
+        statusCounters.reconcile();
+
+        TaskBoard<TaskSummary> board = boardService.getBoard(BoardGroupBy.STATUS, 2, null);
+
+        assertEquals(List.of("TODO", "IN_PROGRESS", "DONE"), board.getGroups().stream().map(TaskBoardGroup::getKey).toList());
+        TaskBoardGroup<TaskSummary> todo = board.getGroups().get(0);
+        assertEquals(3, todo.getCount());
+        assertEquals(List.of(sooner.getId(), later.getId()), ids(todo.getItems()));
+        assertNotNull(todo.getNextCursor());
+        assertEquals(0, board.getGroups().get(1).getCount());
+        assertTrue(board.getGroups().get(1).getItems().isEmpty());
+        assertEquals(List.of(done.getId()), ids(board.getGroups().get(2).getItems()));
+        assertNull(board.getGroups().get(2).getNextCursor());
+
+        CursorPage<TaskSummary> rest = boardService.getGroupPage(BoardGroupBy.STATUS, "TODO", null, todo.getNextCursor(), 2);
+        assertEquals(List.of(undated.getId()), ids(rest.getItems()));
+        assertNull(rest.getNextCursor());
+    }
+
+    @Test
+    void getBoard_byDueDate_shouldBucketTasksRelativeToToday() {
+        Task overdue = save("Overdue", TaskStatus.TODO, TODAY.minusDays(2));
+        Task dueToday = save("Today", TaskStatus.IN_PROGRESS, TODAY);
+        Task upcoming = save("Upcoming", TaskStatus.TODO, TODAY.plusDays(5));
+        Task firstUndated = save("Undated 1", TaskStatus.TODO, null);
+        Task secondUndated = save("Undated 2", TaskStatus.DONE, null);
+
+        TaskBoard<TaskSummary> board = boardService.getBoard(BoardGroupBy.DUEDATE, 1, null);
+
+        assertEquals(List.of("OVERDUE", "TODAY", "UPCOMING", "NONE"),
+                board.getGroups().stream().map(TaskBoardGroup::getKey).toList());
+        assertEquals(List.of(1L, 1L, 1L, 2L), board.getGroups().stream().map(TaskBoardGroup::getCount).toList());
+        assertEquals(List.of(overdue.getId()), ids(board.getGroups().get(0).getItems()));
+        assertEquals(List.of(dueToday.getId()), ids(board.getGroups().get(1).getItems()));
+        assertEquals(List.of(upcoming.getId()), ids(board.getGroups().get(2).getItems()));
+        TaskBoardGroup<TaskSummary> none = board.getGroups().get(3);
+        assertEquals(List.of(firstUndated.getId()), ids(none.getItems()));
+
+        CursorPage<TaskSummary> rest = boardService.getGroupPage(BoardGroupBy.DUEDATE, "NONE", null, none.getNextCursor(), 1);
+        assertEquals(List.of(secondUndated.getId()), ids(rest.getItems()));
+    }
+
+    @Test
+    void getBoard_withQuery_shouldCountAndListOnlyMatchingTitles() {
+        Task match = save("Ship 50% of the release", TaskStatus.TODO, null);
+        save("Ship 500 units", TaskStatus.TODO, null);
+        save("Unrelated", TaskStatus.DONE, null);
+        statusCounters.reconcile();
+
+        TaskBoard<TaskSummary> board = boardService.getBoard(BoardGroupBy.STATUS, 10, "ship 50%");
+
+        assertEquals(List.of(1L, 0L, 0L), board.getGroups().stream().map(TaskBoardGroup::getCount).toList());
+        assertEquals(List.of(match.getId()), ids(board.getGroups().get(0).getItems()));
+    }
+
+    @Test
+    void getGroupPage_withUnknownGroup_shouldThrow() {
+        assertThrows(InvalidRequestException.class,
+                () -> boardService.getGroupPage(BoardGroupBy.DUEDATE, "TODO", null, null, 10));
+    }
+
+    @Test
+    void getBoard_withInvalidLimit_shouldThrow() {
+        assertThrows(InvalidRequestException.class, () -> boardService.getBoard(BoardGroupBy.STATUS, 0, null));
+    }
+
+    private Task save(String title, TaskStatus status, LocalDate dueDate) {
+        return repository.saveAndFlush(new Task(title, null, status, dueDate));
+    }
+
+    private static List<Long> ids(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::id).toList();
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.ClockConfig;
+import com.example.taskmanager.config.JpaConfig;
+import com.example.taskmanager.dto.BulkStatusUpdateRequest;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.DueDateIndex;
+import com.example.taskmanager.service.StatusWriteBuffer;
+import com.example.taskmanager.service.TaskBulkService;
+import com.example.taskmanager.service.TaskChangeFeed;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.TaskShards;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RecordApplicationEvents
+@Import({TaskBulkService.class, TaskStatusCounters.class, DueDateIndex.class, StatusWriteBuffer.class, TaskShards.class,
+        ClockConfig.class, JpaConfig.class, ValidationAutoConfiguration.class})
+class TaskBulkServiceTest {
+
+    @Autowired
+    private TaskBulkService bulkService;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private TaskChangeFeed changeFeed;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private DueDateIndex dueDateIndex;
+
+    @Autowired
+    private TaskStatusCounters statusCounters;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void createTasks_shouldInsertAllAndReturnIdsInOrder() {
+        List<Task> tasks = tasks(120);
+        tasks.get(5).setStatus(null);
+
+        List<Long> ids = bulkService.createTasks(tasks);
+
+        assertEquals(120, ids.size());
+        assertEquals(120, repository.count());
+        assertEquals("Task 0", repository.findById(ids.get(0)).orElseThrow().getTitle());
+        assertEquals("Task 119", repository.findById(ids.get(119)).orElseThrow().getTitle());
+        assertEquals(TaskStatus.TODO, repository.findById(ids.get(5)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void createTasks_shouldUseJdbcBatches() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        bulkService.createTasks(tasks(500));
+
+        // Row-by-row inserts would need at least one statement per task
+        assertTrue(statistics.getPrepareStatementCount() < 50,
+                "expected batched inserts but saw " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void createTasks_withInvalidItems_shouldRejectBatchWithIndexedErrors() {
+        List<Task> tasks = tasks(3);
+        tasks.get(1).setTitle("");
+        tasks.get(2).setDescription("D".repeat(501));
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> bulkService.createTasks(tasks));
+
+        assertEquals("Title is required", ex.getValidationErrors().get("[1].title"));
+        assertEquals("Description must be at most 500 characters", ex.getValidationErrors().get("[2].description"));
+        assertEquals(2, ex.getValidationErrors().size());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void createTasks_withEmptyBatch_shouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> bulkService.createTasks(List.of()));
+    }
+
+    @Test
+    void updateStatus_byIds_shouldUpdateAcrossChunks() {
+        int count = TaskBulkService.ID_CHUNK_SIZE + 200;
+        List<Long> ids = bulkService.createTasks(tasks(count));
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setIds(ids);
+        long affected = bulkService.updateStatus(request);
+
+        assertEquals(count, affected);
+        assertEquals(count, repository.countByStatus(TaskStatus.DONE));
+        // No per-task events, so stream subscribers are told to reload
+        verify(changeFeed).recordUnknownChange();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateStatus_byIds_shouldAdjustIndexAndCountersForTheMovedTasksOnly() {
+        LocalDate today = LocalDate.now();
+        Task overdue = repository.save(new Task("Overdue", null, TaskStatus.TODO, today.minusDays(1)));
+        Task due = repository.save(new Task("Due", null, TaskStatus.IN_PROGRESS, today));
+        Task done = repository.save(new Task("Done", null, TaskStatus.DONE, today));
+        dueDateIndex.rebuild();
+        statusCounters.reconcile();
+        // Written behind their backs: only a rebuild or reconciliation would pick it up
+        repository.save(new Task("Unnoticed", null, TaskStatus.TODO, today));
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setIds(List.of(overdue.getId(), due.getId(), done.getId(), -1L));
+        assertEquals(2, bulkService.updateStatus(request));
+
+        assertEquals(0, dueDateIndex.size());
+        assertEquals(Map.of(TaskStatus.TODO, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 3L),
+                statusCounters.snapshot());
+
+        request.setIds(List.of(overdue.getId()));
+        request.setStatus(TaskStatus.TODO);
+        assertEquals(1, bulkService.updateStatus(request));
+        assertArrayEquals(new long[] {overdue.getId()}, dueDateIndex.overdue(today));
+        assertEquals(1L, statusCounters.snapshot().get(TaskStatus.TODO));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateStatus_byFilter_shouldMoveMatchesInChunksAndAdjustIndexAndCounters() {
+        int count = TaskBulkService.ID_CHUNK_SIZE * 2 + 1;
+        LocalDate today = LocalDate.now();
+        List<Task> tasks = tasks(count);
+        tasks.forEach(task -> task.setDueDate(today));
+        bulkService.createTasks(tasks);
+        Task inProgress = repository.save(new Task("In progress", null, TaskStatus.IN_PROGRESS, today));
+        dueDateIndex.rebuild();
+        statusCounters.reconcile();
+        // Written behind their backs: only a rebuild or reconciliation would pick it up
+        repository.save(new Task("Unnoticed", null, TaskStatus.TODO, null));
+        long matching = count + 1;
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setFromStatus(TaskStatus.TODO);
+        assertEquals(matching, bulkService.updateStatus(request));
+
+        assertEquals(matching, repository.countByStatus(TaskStatus.DONE));
+        assertArrayEquals(new long[] {inProgress.getId()}, dueDateIndex.dueOn(today));
+        // The unnoticed task moved out of TODO without ever having been counted there
+        assertEquals(Map.of(TaskStatus.TODO, -1L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, matching),
+                statusCounters.snapshot());
+    }
+
+    @Test
+    void updateStatus_byFilter_shouldOnlyTouchMatchingRows() {
+        LocalDate today = LocalDate.now();
+        Task oldTodo = new Task("Old TODO", null, TaskStatus.TODO, today.minusDays(10));
+        Task recentTodo = new Task("Recent TODO", null, TaskStatus.TODO, today.minusDays(1));
+        Task oldInProgress = new Task("Old IN_PROGRESS", null, TaskStatus.IN_PROGRESS, today.minusDays(10));
+        Task undatedTodo = new Task("Undated TODO", null, TaskStatus.TODO, null);
+        bulkService.createTasks(List.of(oldTodo, recentTodo, oldInProgress, undatedTodo));
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setFromStatus(TaskStatus.TODO);
+        request.setDueFrom(today.minusDays(30));
+        request.setDueTo(today.minusDays(5));
+        long affected = bulkService.updateStatus(request);
+
+        assertEquals(1, affected);
+        assertEquals(TaskStatus.DONE, repository.findById(oldTodo.getId()).orElseThrow().getStatus());
+        assertEquals(TaskStatus.TODO, repository.findById(recentTodo.getId()).orElseThrow().getStatus());
+        assertEquals(TaskStatus.IN_PROGRESS, repository.findById(oldInProgress.getId()).orElseThrow().getStatus());
+        assertEquals(TaskStatus.TODO, repository.findById(undatedTodo.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateStatus_shouldSkipRowsAlreadyInTargetStatusAndBumpUpdatedAtAndVersion() {
+        Task todo = new Task("TODO", null, TaskStatus.TODO, null);
+        Task done = new Task("DONE", null, TaskStatus.DONE, null);
+        bulkService.createTasks(List.of(todo, done));
+        LocalDateTime doneUpdatedAt = repository.findById(done.getId()).orElseThrow().getUpdatedAt();
+        LocalDateTime before = LocalDateTime.now();
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setIds(List.of(todo.getId(), done.getId()));
+        long affected = bulkService.updateStatus(request);
+
+        assertEquals(1, affected);
+        assertFalse(repository.findById(todo.getId()).orElseThrow().getUpdatedAt().isBefore(before));
+        assertEquals(doneUpdatedAt, repository.findById(done.getId()).orElseThrow().getUpdatedAt());
+        assertEquals(1L, repository.findById(todo.getId()).orElseThrow().getVersion());
+        assertEquals(0L, repository.findById(done.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void updateStatus_withoutCriteria_shouldThrowException() {
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setStatus(TaskStatus.DONE);
+
+        assertThrows(InvalidRequestException.class, () -> bulkService.updateStatus(request));
+    }
+
+    @Test
+    void deleteTasks_shouldDeleteAcrossChunksAndIgnoreUnknownIds() {
+        int count = TaskBulkService.ID_CHUNK_SIZE + 200;
+        List<Long> ids = bulkService.createTasks(tasks(count + 1));
+        Long survivor = ids.get(count);
+        List<Long> toDelete = new ArrayList<>(ids.subList(0, count));
+        toDelete.add(-1L);
+        toDelete.add(ids.get(0));
+
+        long deleted = bulkService.deleteTasks(toDelete);
+
+        assertEquals(count, deleted);
+        assertEquals(1, repository.count());
+        assertTrue(repository.existsById(survivor));
+    }
+
+    @Test
+    void deleteTasks_shouldPublishDeletionsOnlyForTasksThatExisted() {
+        List<Long> ids = bulkService.createTasks(tasks(2));
+        events.clear();
+
+        long deleted = bulkService.deleteTasks(List.of(ids.get(0), -1L, ids.get(1), ids.get(0)));
+        assertEquals(2, deleted);
+        assertEquals(ids, deletedIds());
+
+        events.clear();
+        assertEquals(0, bulkService.deleteTasks(ids));
+        assertEquals(List.of(), deletedIds());
+    }
+
+    @Test
+    void deleteTasks_withoutIds_shouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> bulkService.deleteTasks(List.of()));
+    }
+
+    private List<Long> deletedIds() {
+        return events.stream(TaskChangedEvent.class)
+                .filter(event -> event.getType() == TaskChangedEvent.Type.DELETED)
+                .map(TaskChangedEvent::getTaskId)
+                .sorted()
+                .toList();
+    }
+
+    private List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task("Task " + i, "Description " + i, TaskStatus.TODO, null));
+        }
+        return tasks;
+    }
+}
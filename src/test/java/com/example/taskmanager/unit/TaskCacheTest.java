@@ -0,0 +1,158 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.CacheConfig;
+import com.example.taskmanager.dto.CacheStatistics;
+import com.example.taskmanager.dto.StatusCount;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.CacheStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level and query cache behaviour. Every repository call commits on its own,
+ * as in the running application, because cache puts and invalidations happen at commit.
+ */
+@DataJpaTest
+@Import({CacheConfig.class, CacheStatisticsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskCacheTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void findById_shouldBeServedFromSecondLevelCacheAfterFirstLoad() {
+        Task task = repository.save(new Task("Cached", null, TaskStatus.TODO, null));
+        statistics.clear();
+
+        repository.findById(task.getId()).orElseThrow();
+        repository.findById(task.getId()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findById_shouldSeeChangesFromEveryWritePath() {
+        Task task = repository.save(new Task("Original", null, TaskStatus.TODO, null));
+        repository.findById(task.getId()).orElseThrow();
+
+        // Single-statement UPDATE: only this task's entry is evicted
+        transaction.executeWithoutResult(status ->
+                repository.patch(task.getId(), Map.of("title", "Patched"), LocalDateTime.now(), null));
+        assertEquals("Patched", repository.findById(task.getId()).orElseThrow().getTitle());
+
+        Task loaded = repository.findById(task.getId()).orElseThrow();
+        loaded.setStatus(TaskStatus.DONE);
+        repository.save(loaded);
+        assertEquals(TaskStatus.DONE, repository.findById(task.getId()).orElseThrow().getStatus());
+
+        transaction.executeWithoutResult(status -> repository.deleteTaskById(task.getId()));
+        assertTrue(repository.findById(task.getId()).isEmpty());
+    }
+
+    @Test
+    void singleStatementWrites_shouldEvictOnlyTheTasksTheyTouch() {
+        Task patched = repository.save(new Task("Patch me", null, TaskStatus.TODO, null));
+        Task deleted = repository.save(new Task("Delete me", null, TaskStatus.TODO, null));
+        Task untouched = repository.save(new Task("Untouched", null, TaskStatus.TODO, null));
+        List.of(patched, deleted, untouched).forEach(task -> repository.findById(task.getId()).orElseThrow());
+        assertEquals(Map.of(TaskStatus.TODO, 3L), counts());
+
+        transaction.executeWithoutResult(status -> repository.patch(patched.getId(),
+                Map.of("title", "Patched", "status", TaskStatus.DONE), LocalDateTime.now(), null));
+        transaction.executeWithoutResult(status -> repository.deleteTaskById(deleted.getId()));
+        statistics.clear();
+
+        assertEquals("Untouched", repository.findById(untouched.getId()).orElseThrow().getTitle());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        assertEquals("Patched", repository.findById(patched.getId()).orElseThrow().getTitle());
+        assertTrue(repository.findById(deleted.getId()).isEmpty());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        // The cached status queries still see both writes
+        assertEquals(Map.of(TaskStatus.TODO, 1L, TaskStatus.DONE, 1L), counts());
+    }
+
+    @Test
+    void statusQueries_shouldHitQueryCacheUntilTheTableIsWritten() {
+        repository.save(new Task("First", null, TaskStatus.TODO, null));
+        statistics.clear();
+
+        assertEquals(1, repository.findSummariesByStatus(TaskStatus.TODO).size());
+        assertEquals(Map.of(TaskStatus.TODO, 1L), counts());
+        assertEquals(1, repository.findSummariesByStatus(TaskStatus.TODO).size());
+        assertEquals(Map.of(TaskStatus.TODO, 1L), counts());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        repository.save(new Task("Second", null, TaskStatus.TODO, null));
+
+        assertEquals(2, repository.findSummariesByStatus(TaskStatus.TODO).size());
+        assertEquals(Map.of(TaskStatus.TODO, 2L), counts());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void getStatistics_shouldReportHitRatioPerRegion() {
+        Task task = repository.save(new Task("Cached", null, TaskStatus.TODO, null));
+        repository.findById(task.getId()).orElseThrow();
+        repository.findSummariesByStatus(TaskStatus.TODO);
+
+        CacheStatistics stats = cacheStatisticsService.getStatistics();
+
+        assertTrue(stats.enabled());
+        CacheStatistics.Region tasks = stats.regions().stream()
+                .filter(region -> region.name().equals(Task.CACHE_REGION))
+                .findFirst().orElseThrow();
+        assertEquals(1, tasks.hits());
+        assertEquals(1.0, tasks.hitRatio());
+        List<String> names = stats.regions().stream().map(CacheStatistics.Region::name).toList();
+        assertTrue(names.contains(TaskRepository.QUERY_CACHE_REGION), names::toString);
+    }
+
+    private Map<TaskStatus, Long> counts() {
+        return repository.countGroupedByStatus().stream()
+                .collect(Collectors.toMap(StatusCount::status, StatusCount::count));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Subscribes through MockMvc, which keeps the async response open and exposes what has
+ * been streamed so far.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskChangeFeedTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:created");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void stream_shouldPushCommittedChanges() throws Exception {
+        MockHttpServletResponse stream = subscribe(get("/api/tasks/stream"));
+
+        Task task = taskService.createTask(new Task("Streamed", null, TaskStatus.TODO, null));
+        taskService.patchTask(task.getId(), objectMapper.readTree("{\"title\": \"Renamed\"}"));
+        taskService.deleteTask(task.getId());
+
+        String events = awaitContaining(stream, "event:deleted");
+        assertTrue(events.contains("event:created\ndata:{\"id\":" + task.getId() + ",\"title\":\"Streamed\""), events);
+        assertTrue(events.contains("event:updated\ndata:{\"id\":" + task.getId() + ",\"title\":\"Renamed\""), events);
+        assertTrue(events.contains("event:deleted\ndata:{\"id\":" + task.getId() + "}"), events);
+    }
+
+    @Test
+    void stream_withLastEventId_shouldReplayMissedEvents() throws Exception {
+        MockHttpServletResponse first = subscribe(get("/api/tasks/stream"));
+        taskService.createTask(new Task("Seen", null, TaskStatus.TODO, null));
+        taskService.createTask(new Task("Missed", null, TaskStatus.TODO, null));
+        Matcher seen = EVENT_ID.matcher(awaitContaining(first, "\"Missed\""));
+        assertTrue(seen.find());
+
+        MockHttpServletResponse resumed = subscribe(get("/api/tasks/stream").header("Last-Event-ID", seen.group(1)));
+
+        String events = awaitContaining(resumed, "\"Missed\"");
+        assertFalse(events.contains("\"Seen\""), events);
+        assertFalse(events.contains("event:reset"), events);
+    }
+
+    @Test
+    void stream_withUnknownLastEventId_shouldAskForReset() throws Exception {
+        MockHttpServletResponse stream = subscribe(get("/api/tasks/stream").header("Last-Event-ID", "old-42"));
+
+        awaitContaining(stream, "event:reset");
+    }
+
+    private MockHttpServletResponse subscribe(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static String awaitContaining(MockHttpServletResponse stream, String text) throws Exception {
+        await().atMost(Duration.ofSeconds(5)).until(() -> stream.getContentAsString().contains(text));
+        return stream.getContentAsString();
+    }
+}
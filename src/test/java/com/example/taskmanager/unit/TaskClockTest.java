@@ -0,0 +1,72 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.ClockConfig;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Entity timestamps and overdue flags follow the application clock, in a business time zone
+ * fourteen hours ahead of UTC, so any difference from the JVM's zone shows.
+ */
+@DataJpaTest(properties = "app.time-zone=Pacific/Kiritimati")
+@Import(ClockConfig.class)
+class TaskClockTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void timestamps_shouldComeFromTheApplicationClock() {
+        LocalDateTime before = Task.timestamp(clock);
+        Task task = repository.saveAndFlush(new Task("Stamped", null, TaskStatus.TODO, null));
+
+        assertWithinSeconds(before, task.getCreatedAt());
+        assertWithinSeconds(before, task.getUpdatedAt());
+
+        task.setStatus(TaskStatus.DONE);
+        repository.saveAndFlush(task);
+        assertWithinSeconds(before, task.getUpdatedAt());
+        assertFalse(task.getUpdatedAt().isBefore(task.getCreatedAt()));
+    }
+
+    @Test
+    void overdueFlags_shouldUseTheBusinessDayOfLoadedTasks() {
+        LocalDate today = LocalDate.now(clock);
+        Long dueToday = repository.save(new Task("Today", null, TaskStatus.TODO, today)).getId();
+        Long dueYesterday = repository.save(new Task("Yesterday", null, TaskStatus.TODO, today.minusDays(1))).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Task loadedToday = repository.findById(dueToday).orElseThrow();
+        assertTrue(loadedToday.isDueToday());
+        assertFalse(loadedToday.isOverdue());
+
+        Task loadedYesterday = repository.findById(dueYesterday).orElseThrow();
+        assertTrue(loadedYesterday.isOverdue());
+        assertFalse(loadedYesterday.isDueToday());
+    }
+
+    private static void assertWithinSeconds(LocalDateTime expected, LocalDateTime actual) {
+        assertTrue(Duration.between(expected, actual).abs().getSeconds() < 5,
+                () -> actual + " is not close to " + expected);
+    }
+}
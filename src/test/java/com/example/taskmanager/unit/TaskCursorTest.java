@@ -0,0 +1,82 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCursorTest {
+
+    @Test
+    void idCursor_shouldRoundTrip() {
+        TaskCursor cursor = TaskCursor.after(TaskSortOrder.ID, null, 42L);
+
+        TaskCursor decoded = TaskCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(42L, decoded.getId());
+        assertNull(decoded.getDueDate());
+    }
+
+    @Test
+    void idCursor_shouldIgnoreDueDate() {
+        TaskCursor cursor = TaskCursor.after(TaskSortOrder.ID, LocalDate.of(2024, 5, 1), 7L);
+
+        assertNull(TaskCursor.decode(cursor.encode()).getDueDate());
+    }
+
+    @Test
+    void dueDateCursor_shouldRoundTrip() {
+        TaskCursor cursor = TaskCursor.after(TaskSortOrder.DUE_DATE, LocalDate.of(2024, 12, 31), 9L);
+
+        TaskCursor decoded = TaskCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(LocalDate.of(2024, 12, 31), decoded.getDueDate());
+        assertFalse(decoded.isInUndatedSegment());
+    }
+
+    @Test
+    void dueDateCursor_withoutDueDate_shouldPointIntoUndatedSegment() {
+        TaskCursor cursor = TaskCursor.after(TaskSortOrder.DUE_DATE, null, 9L);
+
+        TaskCursor decoded = TaskCursor.decode(cursor.encode());
+
+        assertTrue(decoded.isInUndatedSegment());
+        assertEquals(9L, decoded.getId());
+    }
+
+    @Test
+    void encode_shouldBeUrlSafe() {
+        String token = TaskCursor.after(TaskSortOrder.DUE_DATE, LocalDate.of(2024, 1, 1), Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void startCursor_shouldNotBeEncodable() {
+        TaskCursor start = TaskCursor.start(TaskSortOrder.ID);
+
+        assertTrue(start.isStart());
+        assertThrows(IllegalStateException.class, start::encode);
+    }
+
+    @Test
+    void decode_withGarbage_shouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode("not base64!"));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encodeRaw("ID|abc")));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encodeRaw("NAME|1")));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encodeRaw("DUE_DATE|2024-13-01|1")));
+        assertThrows(InvalidRequestException.class, () -> TaskCursor.decode(encodeRaw("ID")));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
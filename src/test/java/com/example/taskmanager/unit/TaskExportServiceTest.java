@@ -0,0 +1,89 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskExportService;
+import com.example.taskmanager.shard.TaskShards;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TaskExportService.class, TaskShards.class, JacksonAutoConfiguration.class})
+class TaskExportServiceTest {
+
+    @Autowired
+    private TaskExportService exportService;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void exportTo_shouldWriteOneJsonDocumentPerLineInIdOrder() throws Exception {
+        repository.save(new Task("First", "one", TaskStatus.TODO, LocalDate.of(2030, 1, 1)));
+        repository.save(new Task("Second", null, TaskStatus.DONE, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("First", first.get("title").asText());
+        assertEquals("2030-01-01", first.get("dueDate").asText());
+        assertEquals("Second", second.get("title").asText());
+        assertEquals("DONE", second.get("status").asText());
+        assertTrue(first.get("id").asLong() < second.get("id").asLong());
+    }
+
+    @Test
+    void exportTo_shouldNotRetainEntitiesInPersistenceContext() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            repository.save(new Task("Task " + i, null, TaskStatus.TODO, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(20, exportService.exportTo(new ByteArrayOutputStream()));
+
+        int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        assertEquals(0, managed, "exported tasks should have been detached");
+    }
+
+    @Test
+    void exportTo_withEmptyTable_shouldWriteNothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportTo(out));
+        assertEquals(0, out.size());
+    }
+}
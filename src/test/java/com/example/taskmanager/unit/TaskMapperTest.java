@@ -2,6 +2,8 @@ package com.example.taskmanager.unit;
 
 import com.example.taskmanager.dto.TaskDTO;
 import com.example.taskmanager.dto.TaskMapper;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.TaskSummary;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -65,6 +67,27 @@ class TaskMapperTest {
         assertNull(dto.getDueDate());
     }
 
+    @Test
+    void toResponse_fromSummary_shouldMapAllFieldsExceptDescription() {
+        TaskSummary summary = new TaskSummary(1L, "Test Task", TaskStatus.TODO, LocalDate.of(2024, 12, 31),
+                LocalDateTime.of(2024, 1, 1, 10, 0), LocalDateTime.of(2024, 1, 2, 10, 0));
+
+        TaskResponseDTO response = mapper.toResponse(summary);
+
+        assertEquals(1L, response.getId());
+        assertEquals("Test Task", response.getTitle());
+        assertNull(response.getDescription());
+        assertEquals(TaskStatus.TODO, response.getStatus());
+        assertEquals(LocalDate.of(2024, 12, 31), response.getDueDate());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 10, 0), response.getCreatedAt());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 0), response.getUpdatedAt());
+    }
+
+    @Test
+    void toResponse_whenSummaryIsNull_shouldReturnNull() {
+        assertNull(mapper.toResponse(null));
+    }
+
     @Test
     void toEntity_whenDTOIsNull_shouldReturnNull() {
         Task result = mapper.toEntity(null);
@@ -0,0 +1,98 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards against query regressions that would make the database sort or scan the
+ * whole table: each test runs a repository method, captures the SQL Hibernate issued
+ * and checks H2's EXPLAIN output for the expected index.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.taskmanager.unit.SqlCaptor")
+class TaskQueryPlanTest {
+
+    private static final String DUE_DATE_INDEX = "IDX_DUE_DATE_ID";
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(new Task("Task " + i, null, TaskStatus.values()[i % 3],
+                    i % 4 == 0 ? null : LocalDate.now().plusDays(i % 40 - 20)));
+        }
+        repository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+        SqlCaptor.clear();
+    }
+
+    @Test
+    void findAllOrderedByDueDate_shouldReadBothSegmentsInIndexOrder() {
+        List<Task> ordered = repository.findAllOrderedByDueDate();
+
+        assertEquals(200, ordered.size());
+        List<String> statements = SqlCaptor.statements();
+        assertEquals(2, statements.size());
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(DUE_DATE_INDEX), plan);
+            assertTrue(plan.contains(INDEX_SORTED), plan);
+        }
+    }
+
+    @Test
+    void findPage_byDueDate_shouldReadBothSegmentsInIndexOrder() {
+        repository.findPage(null, TaskCursor.start(TaskSortOrder.DUE_DATE), 200);
+
+        List<String> statements = SqlCaptor.statements();
+        assertEquals(2, statements.size());
+        for (String sql : statements) {
+            String plan = explain(sql, 200);
+            assertTrue(plan.contains(DUE_DATE_INDEX), plan);
+            assertTrue(plan.contains(INDEX_SORTED), plan);
+        }
+    }
+
+    @Test
+    void findOverdueSummaries_shouldRangeScanStatusDueDateIndex() {
+        repository.findOverdueSummaries(LocalDate.now(), EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+
+        List<String> statements = SqlCaptor.statements();
+        assertEquals(1, statements.size());
+        String plan = explain(statements.get(0), "TODO", "IN_PROGRESS", LocalDate.now());
+        assertTrue(plan.contains("IDX_STATUS_DUE_DATE: STATUS IN("), plan);
+        assertTrue(plan.contains("AND DUE_DATE < "), plan);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        Query explain = entityManager.createNativeQuery("EXPLAIN " + sql);
+        for (int i = 0; i < parameters.length; i++) {
+            explain.setParameter(i + 1, parameters[i]);
+        }
+        return (String) explain.getSingleResult();
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.taskmanager.unit;
 
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +28,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -145,6 +157,199 @@ class TaskRepositoryTest {
         assertFalse(repository.existsByTitleIgnoreCase("Non Existent"));
     }
 
+    @Test
+    void findAllSummaries_shouldReturnAllTasksInIdOrderWithoutManagingEntities() {
+        Task first = createTask("First", TaskStatus.TODO);
+        first.setDescription("Long description that list views never show");
+        first.setDueDate(LocalDate.now().plusDays(2));
+        repository.save(first);
+        repository.save(createTask("Second", TaskStatus.DONE));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskSummary> summaries = repository.findAllSummaries();
+
+        assertEquals(List.of("First", "Second"), summaries.stream().map(TaskSummary::title).toList());
+        assertEquals(first.getId(), summaries.get(0).id());
+        assertEquals(LocalDate.now().plusDays(2), summaries.get(0).dueDate());
+        assertNotNull(summaries.get(0).createdAt());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findSummariesByStatus_shouldReturnOnlyMatchingTasks() {
+        repository.save(createTask("TODO Task", TaskStatus.TODO));
+        repository.save(createTask("DONE Task", TaskStatus.DONE));
+
+        List<TaskSummary> summaries = repository.findSummariesByStatus(TaskStatus.TODO);
+
+        assertEquals(List.of("TODO Task"), summaries.stream().map(TaskSummary::title).toList());
+    }
+
+    @Test
+    void findOverdueSummaries_shouldExcludeDoneAndFutureTasksOrderedByDueDate() {
+        Task older = createTask("Older", TaskStatus.IN_PROGRESS);
+        older.setDueDate(LocalDate.now().minusDays(5));
+        Task recent = createTask("Recent", TaskStatus.TODO);
+        recent.setDueDate(LocalDate.now().minusDays(1));
+        Task done = createTask("Done", TaskStatus.DONE);
+        done.setDueDate(LocalDate.now().minusDays(3));
+        Task future = createTask("Future", TaskStatus.TODO);
+        future.setDueDate(LocalDate.now().plusDays(1));
+        repository.saveAll(List.of(recent, older, done, future, createTask("Undated", TaskStatus.TODO)));
+
+        List<TaskSummary> overdue = repository.findOverdueSummaries(LocalDate.now(),
+                EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+
+        assertEquals(List.of("Older", "Recent"), overdue.stream().map(TaskSummary::title).toList());
+    }
+
+    @Test
+    void findPage_byId_shouldWalkAllRowsInIdOrder() {
+        for (int i = 1; i <= 5; i++) {
+            repository.save(createTask("Task " + i, TaskStatus.TODO));
+        }
+
+        List<TaskSummary> first = repository.findPage(null, TaskCursor.start(TaskSortOrder.ID), 2);
+        TaskSummary lastOfFirst = first.get(1);
+        List<TaskSummary> second = repository.findPage(null,
+                TaskCursor.after(TaskSortOrder.ID, null, lastOfFirst.id()), 2);
+        List<TaskSummary> third = repository.findPage(null,
+                TaskCursor.after(TaskSortOrder.ID, null, second.get(1).id()), 2);
+
+        assertEquals(List.of("Task 1", "Task 2"), first.stream().map(TaskSummary::title).toList());
+        assertEquals(List.of("Task 3", "Task 4"), second.stream().map(TaskSummary::title).toList());
+        assertEquals(List.of("Task 5"), third.stream().map(TaskSummary::title).toList());
+    }
+
+    @Test
+    void findPage_withStatus_shouldOnlyReturnMatchingTasks() {
+        repository.save(createTask("TODO 1", TaskStatus.TODO));
+        repository.save(createTask("DONE 1", TaskStatus.DONE));
+        repository.save(createTask("TODO 2", TaskStatus.TODO));
+
+        List<TaskSummary> page = repository.findPage(TaskStatus.TODO, TaskCursor.start(TaskSortOrder.ID), 10);
+
+        assertEquals(List.of("TODO 1", "TODO 2"), page.stream().map(TaskSummary::title).toList());
+    }
+
+    @Test
+    void findPage_byDueDate_shouldPlaceUndatedTasksLastAcrossPages() {
+        Task noDate = createTask("No Date", TaskStatus.TODO);
+        Task later = createTask("Later", TaskStatus.TODO);
+        later.setDueDate(LocalDate.now().plusDays(3));
+        Task sooner = createTask("Sooner", TaskStatus.TODO);
+        sooner.setDueDate(LocalDate.now().plusDays(1));
+        Task sameDay = createTask("Sooner Too", TaskStatus.TODO);
+        sameDay.setDueDate(LocalDate.now().plusDays(1));
+        Task noDate2 = createTask("No Date 2", TaskStatus.TODO);
+        repository.saveAll(List.of(noDate, later, sooner, sameDay, noDate2));
+
+        List<TaskSummary> first = repository.findPage(null, TaskCursor.start(TaskSortOrder.DUE_DATE), 2);
+        TaskSummary edge = first.get(1);
+        List<TaskSummary> second = repository.findPage(null,
+                TaskCursor.after(TaskSortOrder.DUE_DATE, edge.dueDate(), edge.id()), 2);
+        edge = second.get(1);
+        List<TaskSummary> third = repository.findPage(null,
+                TaskCursor.after(TaskSortOrder.DUE_DATE, edge.dueDate(), edge.id()), 2);
+
+        assertEquals(List.of("Sooner", "Sooner Too"), first.stream().map(TaskSummary::title).toList());
+        assertEquals(List.of("Later", "No Date"), second.stream().map(TaskSummary::title).toList());
+        assertEquals(List.of("No Date 2"), third.stream().map(TaskSummary::title).toList());
+    }
+
+    @Test
+    void patch_shouldUpdateOnlyGivenColumns() {
+        Task task = createTask("Original", TaskStatus.TODO);
+        task.setDescription("Keep me");
+        task.setDueDate(LocalDate.now().plusDays(3));
+        task = repository.save(task);
+        entityManager.flush();
+        LocalDateTime patchedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("title", "Patched");
+        changes.put("dueDate", null);
+        int updated = repository.patch(task.getId(), changes, patchedAt, null);
+
+        assertEquals(1, updated);
+        Task reloaded = repository.findById(task.getId()).orElseThrow();
+        assertEquals("Patched", reloaded.getTitle());
+        assertNull(reloaded.getDueDate());
+        assertEquals("Keep me", reloaded.getDescription());
+        assertEquals(TaskStatus.TODO, reloaded.getStatus());
+        assertEquals(patchedAt, reloaded.getUpdatedAt());
+        assertEquals(task.getVersion() + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void patch_withExpectedVersion_shouldOnlyUpdateCurrentVersion() {
+        Task task = repository.save(createTask("Original", TaskStatus.TODO));
+        entityManager.flush();
+        long version = task.getVersion();
+
+        assertEquals(0, repository.patch(task.getId(), Map.of("title", "Stale"), LocalDateTime.now(), version + 1));
+        assertEquals(1, repository.patch(task.getId(), Map.of("title", "Fresh"), LocalDateTime.now(), version));
+
+        assertEquals("Fresh", repository.findById(task.getId()).orElseThrow().getTitle());
+        assertEquals(version + 1, repository.findVersionById(task.getId()).orElseThrow());
+    }
+
+    @Test
+    void save_shouldBumpVersionOnEveryUpdate() {
+        Task task = repository.save(createTask("Versioned", TaskStatus.TODO));
+        entityManager.flush();
+        assertEquals(0L, task.getVersion());
+
+        task.setStatus(TaskStatus.DONE);
+        entityManager.flush();
+
+        assertEquals(1L, task.getVersion());
+        assertTrue(repository.findVersionById(-1L).isEmpty());
+    }
+
+    @Test
+    void patch_withUnknownId_shouldUpdateNothing() {
+        int updated = repository.patch(-1L, Map.of("title", "Patched"), LocalDateTime.now(), null);
+
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void deleteTaskById_shouldRemoveOnlyThatTaskAndReportRowCount() {
+        Task keep = repository.save(createTask("Keep", TaskStatus.TODO));
+        Task gone = repository.save(createTask("Gone", TaskStatus.TODO));
+
+        assertEquals(1, repository.deleteTaskById(gone.getId()));
+        assertEquals(0, repository.deleteTaskById(gone.getId()));
+        assertFalse(repository.existsById(gone.getId()));
+        assertTrue(repository.existsById(keep.getId()));
+    }
+
+    @Test
+    void deleteTaskByIdAndVersion_shouldOnlyDeleteCurrentVersion() {
+        Task task = repository.save(createTask("Versioned", TaskStatus.TODO));
+        entityManager.flush();
+
+        assertEquals(0, repository.deleteTaskByIdAndVersion(task.getId(), task.getVersion() + 1));
+        assertEquals(1, repository.deleteTaskByIdAndVersion(task.getId(), task.getVersion()));
+        assertFalse(repository.existsById(task.getId()));
+    }
+
+    @Test
+    void deleteTasksByIdIn_shouldIgnoreUnknownIds() {
+        Task first = repository.save(createTask("First", TaskStatus.TODO));
+        Task second = repository.save(createTask("Second", TaskStatus.DONE));
+        Task third = repository.save(createTask("Third", TaskStatus.TODO));
+
+        int deleted = repository.deleteTasksByIdIn(List.of(first.getId(), third.getId(), -1L));
+
+        assertEquals(2, deleted);
+        assertEquals(List.of("Second"), repository.findAll().stream().map(Task::getTitle).toList());
+        assertTrue(repository.existsById(second.getId()));
+    }
+
     private Task createTask(String title, TaskStatus status) {
         Task task = new Task();
         task.setTitle(title);
@@ -0,0 +1,121 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.search.TaskSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new TaskSearchIndex("");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.destroy();
+    }
+
+    @Test
+    void search_shouldMatchTitleAndDescription() {
+        index.index(task(1L, "Renew passport", null));
+        index.index(task(2L, "Book flights", "Passport needed for the trip"));
+        index.index(task(3L, "Water plants", "Weekly"));
+
+        List<Long> ids = index.search("passport", 10);
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesAboveDescriptionMatches() {
+        index.index(task(1L, "Book flights", "Check the budget first"));
+        index.index(task(2L, "Review budget", "Quarterly numbers"));
+
+        assertEquals(List.of(2L, 1L), index.search("budget", 10));
+    }
+
+    @Test
+    void search_shouldRequireAllTermsAndStemWords() {
+        index.index(task(1L, "Paint the fence", "Needs two coats"));
+        index.index(task(2L, "Paint the kitchen", null));
+
+        assertEquals(List.of(1L), index.search("painting fences", 10));
+    }
+
+    @Test
+    void search_shouldSupportPrefixQueries() {
+        index.index(task(1L, "Deploy release", null));
+
+        assertEquals(List.of(1L), index.search("depl*", 10));
+    }
+
+    @Test
+    void search_shouldHonourLimit() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(task(id, "Standup " + id, null));
+        }
+
+        assertEquals(3, index.search("standup", 3).size());
+    }
+
+    @Test
+    void index_shouldReplacePreviousDocument() {
+        index.index(task(1L, "Draft report", null));
+        index.index(task(1L, "Publish report", null));
+
+        assertTrue(index.search("draft", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("publish", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_shouldDropDocument() {
+        index.index(task(1L, "Draft report", null));
+        assertEquals(List.of(1L), index.search("report", 10));
+
+        index.remove(1L);
+
+        assertTrue(index.search("report", 10).isEmpty());
+    }
+
+    @Test
+    void clear_shouldDropAllDocuments() {
+        index.index(task(1L, "Draft report", null));
+        index.index(task(2L, "Send report", null));
+
+        index.clear();
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void onDiskIndex_shouldSearchLikeInMemoryIndex(@TempDir Path dir) throws Exception {
+        TaskSearchIndex onDisk = new TaskSearchIndex(dir.toString());
+        try {
+            onDisk.index(task(1L, "Archive logs", null));
+            assertEquals(List.of(1L), onDisk.search("logs", 10));
+        } finally {
+            onDisk.destroy();
+        }
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
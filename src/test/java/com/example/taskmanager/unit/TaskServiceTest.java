@@ -1,24 +1,54 @@
 package com.example.taskmanager.unit;
 
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskSortOrder;
+import com.example.taskmanager.dto.TaskSummary;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.search.TaskSearchIndex;
+import com.example.taskmanager.service.DueDateIndex;
+import com.example.taskmanager.service.StatusWriteBuffer;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.TaskShards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,10 +57,41 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TaskStatusCounters statusCounters;
+
+    @Mock
+    private DueDateIndex dueDateIndex;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Spy
+    private TaskShards shards = new TaskShards(List.of(), 0, mock(PlatformTransactionManager.class),
+            new StandardEnvironment());
+
+    @Spy
+    private StatusWriteBuffer statusBuffer = new StatusWriteBuffer(null, null, null, null, shards,
+            mock(PlatformTransactionManager.class), false, Duration.ofSeconds(1), 1, 1);
+
     @InjectMocks
     private TaskService taskService;
 
     private Task sampleTask;
+    private TaskSummary sampleSummary;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
@@ -40,17 +101,98 @@ class TaskServiceTest {
         sampleTask.setDescription("Description");
         sampleTask.setStatus(TaskStatus.TODO);
         sampleTask.setDueDate(LocalDate.now().plusDays(5));
+        sampleSummary = new TaskSummary(1L, "Test Task", TaskStatus.TODO, sampleTask.getDueDate(), null, null);
     }
 
     @Test
     void getAllTasks_shouldReturnAllTasks() {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(sampleTask));
+        when(taskRepository.findAllSummaries()).thenReturn(Arrays.asList(sampleSummary));
 
-        List<Task> tasks = taskService.getAllTasks();
+        List<TaskSummary> tasks = taskService.getAllTasks();
 
         assertEquals(1, tasks.size());
-        assertEquals("Test Task", tasks.get(0).getTitle());
-        verify(taskRepository, times(1)).findAll();
+        assertEquals("Test Task", tasks.get(0).title());
+        verify(taskRepository, times(1)).findAllSummaries();
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void getTaskPage_whenMoreRowsExist_shouldReturnNextCursor() {
+        TaskSummary second = new TaskSummary(2L, "Second", TaskStatus.TODO, null, null, null);
+        TaskSummary third = new TaskSummary(3L, "Third", TaskStatus.TODO, null, null, null);
+        when(taskRepository.findPage(null, TaskCursor.start(TaskSortOrder.ID), 3))
+            .thenReturn(Arrays.asList(sampleSummary, second, third));
+
+        CursorPage<TaskSummary> page = taskService.getTaskPage(null, TaskSortOrder.ID, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(TaskCursor.after(TaskSortOrder.ID, null, 2L), TaskCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getTaskPage_onLastPage_shouldReturnNoCursor() {
+        String cursor = TaskCursor.after(TaskSortOrder.ID, null, 1L).encode();
+        when(taskRepository.findPage(TaskStatus.TODO, TaskCursor.decode(cursor), 3))
+            .thenReturn(Arrays.asList(sampleSummary));
+
+        CursorPage<TaskSummary> page = taskService.getTaskPage(TaskStatus.TODO, TaskSortOrder.ID, cursor, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTaskPage_withInvalidLimit_shouldThrowException() {
+        assertThrows(InvalidRequestException.class,
+            () -> taskService.getTaskPage(null, TaskSortOrder.ID, null, 0));
+        assertThrows(InvalidRequestException.class,
+            () -> taskService.getTaskPage(null, TaskSortOrder.ID, null, TaskService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskPage_withCursorForOtherOrder_shouldThrowException() {
+        String cursor = TaskCursor.after(TaskSortOrder.ID, null, 1L).encode();
+
+        assertThrows(InvalidRequestException.class,
+            () -> taskService.getTaskPage(null, TaskSortOrder.DUE_DATE, cursor, 10));
+    }
+
+    @Test
+    void searchTasks_shouldReturnTasksInRankOrder() {
+        Task other = new Task();
+        other.setId(2L);
+        other.setTitle("Other Task");
+        when(searchIndex.search("task", 10)).thenReturn(List.of(2L, 1L));
+        when(taskRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(sampleTask, other));
+
+        List<Task> result = taskService.searchTasks("task", 10);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void searchTasks_shouldSkipIdsDeletedSinceIndexing() {
+        when(searchIndex.search("task", 10)).thenReturn(List.of(3L, 1L));
+        when(taskRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(sampleTask));
+
+        List<Task> result = taskService.searchTasks("task", 10);
+
+        assertEquals(List.of(sampleTask), result);
+    }
+
+    @Test
+    void searchTasks_withoutMatches_shouldNotQueryRepository() {
+        when(searchIndex.search("nothing", 10)).thenReturn(List.of());
+
+        assertTrue(taskService.searchTasks("nothing", 10).isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void searchTasks_withBlankQuery_shouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> taskService.searchTasks("  ", 10));
+        verifyNoInteractions(searchIndex);
     }
 
     @Test
@@ -79,31 +221,45 @@ class TaskServiceTest {
 
     @Test
     void getTasksByStatus_shouldReturnFilteredTasks() {
-        when(taskRepository.findByStatus(TaskStatus.TODO))
-            .thenReturn(Arrays.asList(sampleTask));
+        when(taskRepository.findSummariesByStatus(TaskStatus.TODO))
+            .thenReturn(Arrays.asList(sampleSummary));
 
-        List<Task> tasks = taskService.getTasksByStatus(TaskStatus.TODO);
+        List<TaskSummary> tasks = taskService.getTasksByStatus(TaskStatus.TODO);
 
         assertEquals(1, tasks.size());
-        assertEquals(TaskStatus.TODO, tasks.get(0).getStatus());
-        verify(taskRepository, times(1)).findByStatus(TaskStatus.TODO);
+        assertEquals(TaskStatus.TODO, tasks.get(0).status());
+        verify(taskRepository, times(1)).findSummariesByStatus(TaskStatus.TODO);
     }
 
     @Test
-    void getOverdueTasks_shouldReturnOverdueTasks() {
-        Task overdueTask = new Task();
-        overdueTask.setTitle("Overdue");
-        overdueTask.setDueDate(LocalDate.now().minusDays(1));
-        overdueTask.setStatus(TaskStatus.TODO);
+    void getOverdueTasks_shouldLoadIdsFromDueDateIndex() {
+        LocalDate today = LocalDate.of(2024, 3, 15);
+        Task overdueTask = new Task("Overdue", null, TaskStatus.TODO, today.minusDays(1));
+        overdueTask.setId(2L);
+        when(dueDateIndex.overdue(today)).thenReturn(new long[] {2L});
+        when(taskRepository.findAllInOrder(new long[] {2L})).thenReturn(List.of(overdueTask));
 
-        when(taskRepository.findByDueDateBeforeAndStatusNot(any(LocalDate.class), eq(TaskStatus.DONE)))
-            .thenReturn(Arrays.asList(overdueTask));
+        List<TaskSummary> overdue = taskService.getOverdueTasks();
 
-        List<Task> overdue = taskService.getOverdueTasks();
+        assertEquals(List.of(2L), overdue.stream().map(TaskSummary::id).toList());
+        verify(taskRepository, never()).findOverdueSummaries(any(), any());
+    }
 
-        assertEquals(1, overdue.size());
-        verify(taskRepository, times(1))
-            .findByDueDateBeforeAndStatusNot(any(LocalDate.class), eq(TaskStatus.DONE));
+    @Test
+    void getTasksDueToday_shouldSkipTasksTheIndexNoLongerMatches() {
+        LocalDate today = LocalDate.of(2024, 3, 15);
+        Task dueToday = new Task("Due today", null, TaskStatus.IN_PROGRESS, today);
+        dueToday.setId(3L);
+        Task finished = new Task("Finished", null, TaskStatus.DONE, today);
+        finished.setId(4L);
+        Task moved = new Task("Moved", null, TaskStatus.TODO, today.plusDays(1));
+        moved.setId(5L);
+        when(dueDateIndex.dueOn(today)).thenReturn(new long[] {3L, 4L, 5L});
+        when(taskRepository.findAllInOrder(new long[] {3L, 4L, 5L})).thenReturn(List.of(dueToday, finished, moved));
+
+        List<TaskSummary> due = taskService.getTasksDueToday();
+
+        assertEquals(List.of(3L), due.stream().map(TaskSummary::id).toList());
     }
 
     @Test
@@ -134,6 +290,7 @@ class TaskServiceTest {
 
         assertNull(newTask.getId());
         verify(taskRepository, times(1)).save(newTask);
+        verify(statusCounters).recordCreated(TaskStatus.TODO);
     }
 
     @Test
@@ -183,23 +340,82 @@ class TaskServiceTest {
     }
 
     @Test
-    void deleteTask_whenExists_shouldDelete() {
+    void updateTask_withStaleVersion_shouldThrowPreconditionFailed() {
+        sampleTask.setVersion(4L);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
-        doNothing().when(taskRepository).delete(sampleTask);
+
+        assertThrows(
+            PreconditionFailedException.class,
+            () -> taskService.updateTask(1L, new Task("Updated", null, TaskStatus.DONE, null), 3L)
+        );
+        assertEquals("Test Task", sampleTask.getTitle());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void getTaskVersion_shouldReadOnlyTheVersion() {
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+        when(taskRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        assertEquals(7L, taskService.getTaskVersion(1L));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskVersion(999L));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteTask_whenExists_shouldDeleteWithoutLoading() {
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.IN_PROGRESS));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository, times(1)).delete(sampleTask);
+        verify(taskRepository, times(1)).deleteTaskById(1L);
+        verify(taskRepository, never()).findById(any());
+        verify(tombstoneRepository).recordDeletions(eq(List.of(1L)), any());
+        verify(statusCounters).recordDeleted(TaskStatus.IN_PROGRESS);
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangedEvent.Type.DELETED, event.getValue().getType());
+        assertEquals(1L, event.getValue().getTaskId());
     }
 
     @Test
     void deleteTask_whenNotExists_shouldThrowException() {
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findStatusById(999L)).thenReturn(Optional.empty());
 
         assertThrows(
             ResourceNotFoundException.class,
             () -> taskService.deleteTask(999L)
         );
+        verify(taskRepository, never()).deleteTaskById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(statusCounters);
+    }
+
+    @Test
+    void deleteTask_whenRemovedConcurrently_shouldThrowException() {
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.TODO));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(0);
+
+        assertThrows(
+            ResourceNotFoundException.class,
+            () -> taskService.deleteTask(1L)
+        );
+        verifyNoInteractions(statusCounters);
+    }
+
+    @Test
+    void deleteTask_withStaleVersion_shouldThrowPreconditionFailed() {
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.TODO));
+        when(taskRepository.deleteTaskByIdAndVersion(1L, 3L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(
+            PreconditionFailedException.class,
+            () -> taskService.deleteTask(1L, 3L)
+        );
+        verify(taskRepository, never()).deleteTaskById(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -212,5 +428,123 @@ class TaskServiceTest {
         assertEquals(TaskStatus.IN_PROGRESS, sampleTask.getStatus());
         assertEquals("Test Task", sampleTask.getTitle()); // Unchanged
         verify(taskRepository, times(1)).save(sampleTask);
+        verify(statusCounters).recordStatusChange(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void updateTaskStatus_withWriteBehind_shouldBufferWithoutSaving() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
+        doReturn(true).when(statusBuffer).isEnabled();
+        doReturn(sampleTask).when(statusBuffer).offer(sampleTask, TaskStatus.DONE);
+
+        assertSame(sampleTask, taskService.updateTaskStatus(1L, TaskStatus.DONE));
+
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateTaskStatus_withFullWriteBehindBuffer_shouldSaveRightAway() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(sampleTask);
+        doReturn(true).when(statusBuffer).isEnabled();
+        doReturn(null).when(statusBuffer).offer(sampleTask, TaskStatus.DONE);
+
+        taskService.updateTaskStatus(1L, TaskStatus.DONE);
+
+        verify(taskRepository).save(sampleTask);
+        verify(statusCounters).recordStatusChange(TaskStatus.TODO, TaskStatus.DONE);
+    }
+
+    @Test
+    void patchTask_shouldUpdateOnlyProvidedFieldsWithoutLoading() throws Exception {
+        when(taskRepository.findStatusById(1L)).thenReturn(Optional.of(TaskStatus.TODO));
+        when(taskRepository.patch(eq(1L), anyMap(), any(LocalDateTime.class), isNull())).thenReturn(1);
+
+        taskService.patchTask(1L, objectMapper.readTree(
+            "{\"title\":\"Renamed\",\"status\":\"DONE\",\"dueDate\":null}"));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("title", "Renamed");
+        expected.put("status", TaskStatus.DONE);
+        expected.put("dueDate", null);
+        verify(taskRepository).patch(eq(1L), eq(expected), any(LocalDateTime.class), isNull());
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+        verify(statusCounters).recordStatusChange(TaskStatus.TODO, TaskStatus.DONE);
+    }
+
+    @Test
+    void patchTask_withoutStatus_shouldNotReadTheOldStatus() throws Exception {
+        when(taskRepository.patch(eq(1L), anyMap(), any(LocalDateTime.class), isNull())).thenReturn(1);
+
+        taskService.patchTask(1L, objectMapper.readTree("{\"title\":\"Renamed\"}"));
+
+        verify(taskRepository, never()).findStatusById(any());
+        verifyNoInteractions(statusCounters);
+    }
+
+    @Test
+    void getStatusSummary_shouldBeServedFromCounters() {
+        Map<TaskStatus, Long> counts = new LinkedHashMap<>();
+        counts.put(TaskStatus.TODO, 3L);
+        counts.put(TaskStatus.IN_PROGRESS, 2L);
+        counts.put(TaskStatus.DONE, 5L);
+        when(statusCounters.snapshot()).thenReturn(counts);
+
+        assertEquals(10, taskService.getStatusSummary().total());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void patchTask_whenNoRowUpdated_shouldThrowException() throws Exception {
+        when(taskRepository.patch(eq(999L), anyMap(), any(LocalDateTime.class), isNull())).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> taskService.patchTask(999L, objectMapper.readTree("{\"title\":\"Renamed\"}")));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchTask_withEmptyPatch_shouldOnlyCheckExistence() throws Exception {
+        when(taskRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> taskService.patchTask(999L, objectMapper.readTree("{}")));
+        verify(taskRepository, never()).patch(any(), anyMap(), any(), any());
+    }
+
+    @Test
+    void patchTask_withStaleVersion_shouldThrowPreconditionFailed() throws Exception {
+        when(taskRepository.patch(eq(1L), anyMap(), any(LocalDateTime.class), eq(3L))).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class,
+            () -> taskService.patchTask(1L, objectMapper.readTree("{\"title\":\"Renamed\"}"), 3L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchTask_withInvalidMembers_shouldReportEveryField() throws Exception {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+            () -> taskService.patchTask(1L, objectMapper.readTree(
+                "{\"id\":5,\"status\":\"LATER\",\"dueDate\":\"tomorrow\",\"priority\":\"high\"}")));
+
+        assertEquals(Set.of("id", "status", "dueDate", "priority"), exception.getValidationErrors().keySet());
+        verify(taskRepository, never()).patch(any(), anyMap(), any(), any());
+    }
+
+    @Test
+    void patchTask_clearingStatus_shouldThrowException() throws Exception {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+            () -> taskService.patchTask(1L, objectMapper.readTree("{\"status\":null}")));
+
+        assertEquals("Status cannot be cleared", exception.getValidationErrors().get("status"));
+    }
+
+    @Test
+    void patchTask_withNonObjectBody_shouldThrowException() throws Exception {
+        assertThrows(InvalidRequestException.class,
+            () -> taskService.patchTask(1L, objectMapper.readTree("[\"title\"]")));
     }
 }
\ No newline at end of file
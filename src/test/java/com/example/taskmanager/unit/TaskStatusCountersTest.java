@@ -0,0 +1,112 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskStatusCounters;
+import com.example.taskmanager.shard.TaskShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counter deltas only land when the surrounding transaction commits, so every
+ * write here runs in its own transaction, as in the running application.
+ */
+@DataJpaTest
+@Import({TaskStatusCounters.class, TaskShards.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskStatusCountersTest {
+
+    @Autowired
+    private TaskStatusCounters counters;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        counters.reconcile();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void reconcile_shouldSeedEveryStatusFromTheDatabase() {
+        repository.save(new Task("First", null, TaskStatus.TODO, null));
+        repository.save(new Task("Second", null, TaskStatus.TODO, null));
+        repository.save(new Task("Third", null, TaskStatus.DONE, null));
+
+        counters.reconcile();
+
+        assertEquals(Map.of(TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L),
+                counters.snapshot());
+    }
+
+    @Test
+    void deltas_shouldApplyOnlyOnCommit() {
+        transaction.executeWithoutResult(status -> {
+            counters.recordCreated(TaskStatus.TODO, 2);
+            counters.recordStatusChange(TaskStatus.TODO, TaskStatus.DONE);
+            assertEquals(0L, counters.snapshot().get(TaskStatus.TODO));
+        });
+        assertEquals(1L, counters.snapshot().get(TaskStatus.TODO));
+        assertEquals(1L, counters.snapshot().get(TaskStatus.DONE));
+
+        transaction.executeWithoutResult(status -> {
+            counters.recordDeleted(TaskStatus.DONE);
+            status.setRollbackOnly();
+        });
+        assertEquals(1L, counters.snapshot().get(TaskStatus.DONE));
+    }
+
+    @Test
+    void reconcile_shouldNotCountACommitTwiceWhileItsDeltaIsPending() {
+        transaction.executeWithoutResult(status -> {
+            repository.save(new Task("Committed", null, TaskStatus.TODO, null));
+            // Runs after the commit, when the count already includes the task but the delta
+            // registered below has yet to be applied
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters.reconcile();
+                }
+            });
+            counters.recordCreated(TaskStatus.TODO);
+        });
+
+        assertEquals(1L, counters.snapshot().get(TaskStatus.TODO));
+        counters.reconcile();
+        assertEquals(1L, counters.snapshot().get(TaskStatus.TODO));
+    }
+
+    @Test
+    void recordUnknownChange_shouldReconcileAfterCommit() {
+        Task task = repository.save(new Task("Moved", null, TaskStatus.TODO, null));
+        counters.reconcile();
+
+        transaction.executeWithoutResult(status -> {
+            repository.deleteTaskById(task.getId());
+            counters.recordUnknownChange();
+        });
+
+        assertEquals(0L, counters.snapshot().get(TaskStatus.TODO));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.taskmanager.unit;
+
+import com.example.taskmanager.config.ClockConfig;
+import com.example.taskmanager.dto.TaskChanges;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskTombstoneRepository;
+import com.example.taskmanager.service.TaskSyncService;
+import com.example.taskmanager.shard.TaskShards;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TaskShards.class, ClockConfig.class})
+class TaskSyncServiceTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskShards shards;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TaskSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+        syncService = service(Duration.ZERO, Duration.ofDays(30));
+    }
+
+    @Test
+    void getChanges_withoutToken_shouldPageThroughEveryTask() {
+        List<Task> tasks = save("A", "B", "C");
+
+        TaskChanges first = syncService.getChanges(null, 2);
+        assertEquals(ids(tasks.subList(0, 2)), ids(first.getUpserts()));
+        assertTrue(first.isHasMore());
+        assertFalse(first.isReset());
+
+        TaskChanges second = syncService.getChanges(first.getNextToken(), 2);
+        assertEquals(ids(tasks.subList(2, 3)), ids(second.getUpserts()));
+        assertFalse(second.isHasMore());
+
+        TaskChanges idle = syncService.getChanges(second.getNextToken(), 2);
+        assertTrue(idle.getUpserts().isEmpty());
+        assertTrue(idle.getDeletedIds().isEmpty());
+    }
+
+    @Test
+    void getChanges_shouldReturnOnlyChangesAndDeletionsSinceToken() {
+        List<Task> tasks = save("Kept", "Changed", "Deleted");
+        String token = syncService.getChanges(null, 10).getNextToken();
+
+        Task changed = tasks.get(1);
+        changed.setStatus(TaskStatus.DONE);
+        entityManager.flush();
+        Long deletedId = tasks.get(2).getId();
+        tombstoneRepository.recordDeletions(List.of(deletedId, 12345L), Task.timestamp(clock));
+        taskRepository.deleteTasksByIdIn(List.of(deletedId));
+
+        TaskChanges changes = syncService.getChanges(token, 10);
+
+        assertEquals(List.of(changed.getId()), ids(changes.getUpserts()));
+        assertEquals(TaskStatus.DONE, changes.getUpserts().get(0).getStatus());
+        assertEquals(List.of(deletedId), changes.getDeletedIds());
+        assertFalse(changes.isReset());
+    }
+
+    @Test
+    void getChanges_shouldHoldBackChangesYoungerThanSettle() {
+        save("Fresh");
+
+        assertTrue(service(Duration.ofHours(1), Duration.ofDays(30)).getChanges(null, 10).getUpserts().isEmpty());
+    }
+
+    @Test
+    void getChanges_withTokenOlderThanRetention_shouldReset() {
+        save("A", "B");
+        String token = syncService.getChanges(null, 10).getNextToken();
+
+        TaskChanges changes = service(Duration.ZERO, Duration.ZERO).getChanges(token, 10);
+
+        assertTrue(changes.isReset());
+        assertEquals(2, changes.getUpserts().size());
+    }
+
+    @Test
+    void getChanges_withMalformedToken_shouldThrow() {
+        assertThrows(InvalidRequestException.class, () -> syncService.getChanges("not-a-token", 10));
+    }
+
+    @Test
+    void purgeTombstones_shouldDropTombstonesOlderThanRetention() {
+        List<Task> tasks = save("Deleted");
+        tombstoneRepository.recordDeletions(ids(tasks), Task.timestamp(clock));
+
+        assertEquals(0, syncService.purgeTombstones());
+        assertEquals(1, service(Duration.ZERO, Duration.ZERO).purgeTombstones());
+        assertEquals(0, tombstoneRepository.count());
+    }
+
+    private TaskSyncService service(Duration settle, Duration tombstoneRetention) {
+        return new TaskSyncService(taskRepository, tombstoneRepository, shards, clock, settle, tombstoneRetention);
+    }
+
+    private List<Task> save(String... titles) {
+        List<Task> tasks = new ArrayList<>();
+        for (String title : titles) {
+            tasks.add(taskRepository.saveAndFlush(new Task(title, null, TaskStatus.TODO, null)));
+        }
+        return tasks;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -8,6 +8,7 @@ export interface Task {
   dueDate?: string; // ISO date string (YYYY-MM-DD)
   createdAt?: string; // ISO datetime string
   updatedAt?: string; // ISO datetime string
+  version?: number; // optimistic lock version, also the ETag value
 }
 
 export interface TaskFormData {
@@ -23,6 +24,43 @@ export interface TaskFilters {
   showOverdue?: boolean;
 }
 
+/** JSON Merge Patch body: omitted fields are unchanged, null clears the field. */
+export interface TaskMergePatch {
+  title?: string;
+  description?: string | null;
+  status?: TaskStatus;
+  dueDate?: string | null;
+}
+
+export type TaskSortOrder = "ID" | "DUE_DATE";
+
+/** Callbacks for the change stream; onReset means changes were missed and the list should be reloaded. */
+export interface TaskStreamHandlers {
+  onUpsert: (task: Task) => void;
+  onDelete: (id: number) => void;
+  onReset: () => void;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string | null;
+}
+
+export type BoardGroupBy = "STATUS" | "DUEDATE";
+
+/** Board group keys: a TaskStatus, or OVERDUE / TODAY / UPCOMING / NONE when grouped by due date. */
+export interface TaskBoardGroup<T> {
+  key: string;
+  count: number;
+  items: T[];
+  nextCursor?: string | null;
+}
+
+export interface TaskBoard<T> {
+  groupBy: BoardGroupBy;
+  groups: TaskBoardGroup<T>[];
+}
+
 export interface ApiError {
   status: number;
   error: string;